@@ -8,33 +8,66 @@ public class Alphabet {
     public static final int MAX_LETTERS = 26;
 
     /**
-     * an array of Letter objects representing each letter of the alphabet.
+     * the number of bits used to store the status of each letter.
      */
-    private Letter[] letters;
+    private static final int BITS_PER_STATUS = 2;
 
     /**
-     * constructs an Alphabet object by initializing an array of Letter objects.
-     * Fills the array with letters from A to Z, each initialized with the default
-     * status NOT_GUESSED.
+     * mask that selects a single status once it is shifted down.
      */
-    public Alphabet() {
-        letters = new Letter[MAX_LETTERS];
+    private static final long STATUS_MASK = (1L << BITS_PER_STATUS) - 1;
 
-        for (int i = 0; i < MAX_LETTERS; i++) {
-            char currentChar = (char) ('A' + i);
-            letters[i] = new Letter(currentChar);
-        }
+    /**
+     * the statuses in ordinal order, so a stored ordinal can be turned back into
+     * a Status without allocating.
+     */
+    private static final Letter.Status[] STATUSES = Letter.Status.values();
+
+    /**
+     * the status of every letter, 2 bits per letter holding the Status ordinal,
+     * with 'A' in the lowest bits. The letter itself is implied by its index.
+     */
+    private long statuses;
+
+    /**
+     * constructs an Alphabet object with the letters from A to Z, each with the
+     * default status NOT_GUESSED.
+     */
+    public Alphabet() {
+        statuses = 0;
     }
 
     /**
-     * returns the array of Letter objects.
+     * returns an array of Letter objects for the alphabet. The array is a copy;
+     * changing it does not change this Alphabet.
      *
      * @return an array of Letter objects.
      */
     public Letter[] getLetters() {
+        Letter[] letters = new Letter[MAX_LETTERS];
+        for (int i = 0; i < MAX_LETTERS; i++) {
+            letters[i] = new Letter((char) ('A' + i));
+            letters[i].setStatus(status(i));
+        }
         return letters;
     }
 
+    /**
+     * returns the shared Tile for the Letter at the given index. No Letter is
+     * created, so this is the one to use when drawing.
+     *
+     * @param index is the position of the Letter to retrieve.
+     * @return the Tile with the letter and status at the specified index.
+     * @throws IllegalArgumentException if the index is less than 0 or greater than
+     *                                  or equal to MAX_LETTERS.
+     */
+    public Tile getTile(int index) {
+        if (index < 0 || index >= MAX_LETTERS) {
+            throw new IllegalArgumentException("Invalid index");
+        }
+        return Tile.of((char) ('A' + index), status(index));
+    }
+
     /**
      * returns the character of the Letter at the given index.
      *
@@ -47,7 +80,7 @@ public class Alphabet {
         if (index < 0 || index >= MAX_LETTERS) {
             throw new IllegalArgumentException("Invalid index");
         }
-        return letters[index].getLetter();
+        return (char) ('A' + index);
     }
 
     /**
@@ -62,7 +95,7 @@ public class Alphabet {
         if (index < 0 || index >= MAX_LETTERS) {
             throw new IllegalArgumentException("Invalid index");
         }
-        return letters[index].getStatus();
+        return status(index);
     }
 
     /**
@@ -71,33 +104,60 @@ public class Alphabet {
      *
      * @param index  is the position of the Letter to update.
      * @param status is the new status to assign to the Letter.
+     * @return true if the status of the Letter changed.
      * @throws IllegalArgumentException if the index is less than 0 or greater than
      *                                  or equal to MAX_LETTERS.
      */
-    public void updateStatus(int index, Letter.Status status) {
+    public boolean updateStatus(int index, Letter.Status status) {
         if (index < 0 || index >= MAX_LETTERS) {
             throw new IllegalArgumentException("Invalid index");
         }
 
-        Letter.Status currentStatus = letters[index].getStatus();
+        if (status == null) {
+            throw new IllegalArgumentException("Invalid status");
+        }
+
+        Letter.Status currentStatus = status(index);
 
         if (currentStatus == Letter.Status.NOT_GUESSED) {
-            letters[index].setStatus(status);
-            return;
+            setStatus(index, status);
+            return status != currentStatus;
         }
 
         if (currentStatus == Letter.Status.IN_WORD && status == Letter.Status.IN_POSITION) {
-            letters[index].setStatus(status);
-            return;
+            setStatus(index, status);
+            return true;
         }
+        return false;
+    }
+
+    /**
+     * reads the status of a letter from the packed statuses.
+     *
+     * @param index is the position of the letter.
+     * @return the status of the letter.
+     */
+    private Letter.Status status(int index) {
+        return STATUSES[(int) ((statuses >>> (index * BITS_PER_STATUS)) & STATUS_MASK)];
+    }
+
+    /**
+     * writes the status of a letter into the packed statuses.
+     *
+     * @param index  is the position of the letter.
+     * @param status is the new status.
+     */
+    private void setStatus(int index, Letter.Status status) {
+        int shift = index * BITS_PER_STATUS;
+        statuses = (statuses & ~(STATUS_MASK << shift)) | ((long) status.ordinal() << shift);
     }
 
     /**
      * checks if this Alphabet object is equal to another object by comparing the
-     * letters array.
+     * status of every letter.
      *
      * @param o is the object to compare with this Alphabet.
-     * @return true if the given object is an Alphabet with the same letters array,
+     * @return true if the given object is an Alphabet with the same statuses,
      *         false otherwise.
      */
     @Override
@@ -109,12 +169,7 @@ public class Alphabet {
             return false;
         }
         Alphabet alphabet = (Alphabet) o;
-        for (int i = 0; i < MAX_LETTERS; i++) {
-            if (!letters[i].equals(alphabet.letters[i])) {
-                return false;
-            }
-        }
-        return true;
+        return statuses == alphabet.statuses;
     }
 
     /**
@@ -126,12 +181,12 @@ public class Alphabet {
      */
     @Override
     public String toString() {
-        String result = "";
+        StringBuilder result = new StringBuilder();
 
         for (int i = 0; i < MAX_LETTERS; i++) {
-            result = result + letters[i].toString() + "\n";
+            result.append((char) ('A' + i)).append(' ').append(status(i)).append('\n');
         }
 
-        return result;
+        return result.toString();
     }
 }
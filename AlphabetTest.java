@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import Project4.src.Letter;
 import Project4.src.Alphabet;
+import Project4.src.Tile;
 //TODO: Add documentation to pass checkstyle
 
 /**
@@ -103,6 +104,18 @@ public class AlphabetTest {
         }
     }
 
+    /**
+     * Test updateStatus reports whether the status changed
+     */
+    @Test
+    public void testUpdateStatusReturnsChanged() {
+        assertTrue(alphabet.updateStatus(0, Letter.Status.IN_WORD), "Test NOT_GUESSED to IN_WORD");
+        assertFalse(alphabet.updateStatus(0, Letter.Status.IN_WORD), "Test IN_WORD again");
+        assertFalse(alphabet.updateStatus(0, Letter.Status.NOT_IN_WORD), "Test IN_WORD to NOT_IN_WORD");
+        assertTrue(alphabet.updateStatus(0, Letter.Status.IN_POSITION), "Test IN_WORD to IN_POSITION");
+        assertFalse(alphabet.updateStatus(1, Letter.Status.NOT_GUESSED), "Test NOT_GUESSED again");
+    }
+
     /**
      * Test updateStatus to IN_POSITION when current status is IN_WORD
      */
@@ -388,4 +401,39 @@ public class AlphabetTest {
                 "Testing alphabet.updateStatus(-1, Letter.Status.IN_WORD ) - exception message");
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Test updating one letter does not change the others
+     */
+    @Test
+    public void testUpdateStatusIndependentLetters() {
+        alphabet.updateStatus(0, Letter.Status.IN_POSITION);
+        alphabet.updateStatus(25, Letter.Status.NOT_IN_WORD);
+        alphabet.updateStatus(12, Letter.Status.IN_WORD);
+        for (int i = 0; i < 26; i++) {
+            Letter.Status expected = Letter.Status.NOT_GUESSED;
+            if (i == 0) {
+                expected = Letter.Status.IN_POSITION;
+            } else if (i == 25) {
+                expected = Letter.Status.NOT_IN_WORD;
+            } else if (i == 12) {
+                expected = Letter.Status.IN_WORD;
+            }
+            assertEquals(expected, alphabet.getStatus(i), "Test getStatus after updating other letters");
+        }
+        assertEquals(Letter.Status.IN_WORD, alphabet.getLetters()[12].getStatus(),
+                "Test getLetters reflects status");
+    }
+
+    /**
+     * Test getTile returns the shared Tile for each letter
+     */
+    @Test
+    public void testGetTile() {
+        alphabet.updateStatus(7, Letter.Status.IN_POSITION);
+        assertSame(Tile.of('H', Letter.Status.IN_POSITION), alphabet.getTile(7), "Test getTile after update");
+        assertSame(Tile.of('A', Letter.Status.NOT_GUESSED), alphabet.getTile(0), "Test getTile after constructed");
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> alphabet.getTile(26));
+        assertEquals("Invalid index", exception.getMessage(), "invalid index - exception message");
+    }
+}
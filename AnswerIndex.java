@@ -0,0 +1,175 @@
+package Project4.src;
+
+public final class AnswerIndex {
+
+    /**
+     * the number of longs in each bitset.
+     */
+    private final int length;
+
+    /**
+     * the number of words indexed.
+     */
+    private final int size;
+
+    /**
+     * the number of letters in every indexed word.
+     */
+    private final int cols;
+
+    /**
+     * for letter l and column c, the bitset at [l * cols + c] holds the
+     * words with letter l in column c.
+     */
+    private final long[][] letterAt;
+
+    /**
+     * for letter l and count k, the bitset at [l * cols + k - 1] holds
+     * the words containing letter l at least k times.
+     */
+    private final long[][] atLeast;
+
+    /**
+     * constructs an AnswerIndex over the words of a WordSet. Bit i of every
+     * bitset stands for the word at index i of the set.
+     *
+     * @param words is the set of words to index.
+     * @throws IllegalArgumentException if the set is null.
+     */
+    public AnswerIndex(WordSet words) {
+        if (words == null) {
+            throw new IllegalArgumentException("Null word set");
+        }
+        size = words.size();
+        cols = words.getWordLength();
+        length = (size + 63) >>> 6;
+        letterAt = new long[Alphabet.MAX_LETTERS * cols][length];
+        atLeast = new long[Alphabet.MAX_LETTERS * cols][length];
+
+        int[] counts = new int[Alphabet.MAX_LETTERS];
+        for (int i = 0; i < size; i++) {
+            long code = words.getLongCode(i);
+            long bit = 1L << i;
+            for (int col = 0; col < cols; col++) {
+                int letter = WordCode.letterAt(code, col);
+                letterAt[letter * cols + col][i >>> 6] |= bit;
+                counts[letter]++;
+                atLeast[letter * cols + counts[letter] - 1][i >>> 6] |= bit;
+            }
+            for (int col = 0; col < cols; col++) {
+                counts[WordCode.letterAt(code, col)] = 0;
+            }
+        }
+    }
+
+    /**
+     * returns a new bitset with every indexed word set, ready to be narrowed by
+     * the other methods.
+     *
+     * @return the bitset of all words.
+     */
+    public long[] all() {
+        long[] set = new long[length];
+        for (int i = 0; i < size >>> 6; i++) {
+            set[i] = -1L;
+        }
+        if ((size & 63) != 0) {
+            set[size >>> 6] = (1L << size) - 1;
+        }
+        return set;
+    }
+
+    /**
+     * keeps only the words with the given letter in the given column.
+     *
+     * @param set    is the bitset to narrow.
+     * @param letter is the alphabet index of the letter.
+     * @param col    is the column.
+     */
+    public void requireLetterAt(long[] set, int letter, int col) {
+        and(set, letterAt[letter * cols + col]);
+    }
+
+    /**
+     * removes the words with the given letter in the given column.
+     *
+     * @param set    is the bitset to narrow.
+     * @param letter is the alphabet index of the letter.
+     * @param col    is the column.
+     */
+    public void excludeLetterAt(long[] set, int letter, int col) {
+        andNot(set, letterAt[letter * cols + col]);
+    }
+
+    /**
+     * keeps only the words containing the given letter at least count times.
+     *
+     * @param set    is the bitset to narrow.
+     * @param letter is the alphabet index of the letter.
+     * @param count  is the minimum number of copies, from 1 to the word length.
+     */
+    public void requireAtLeast(long[] set, int letter, int count) {
+        and(set, atLeast[letter * cols + count - 1]);
+    }
+
+    /**
+     * removes the words containing the given letter more than count times.
+     *
+     * @param set    is the bitset to narrow.
+     * @param letter is the alphabet index of the letter.
+     * @param count  is the maximum number of copies, from 0 to the word length.
+     */
+    public void requireAtMost(long[] set, int letter, int count) {
+        if (count < cols) {
+            andNot(set, atLeast[letter * cols + count]);
+        }
+    }
+
+    /**
+     * removes the words containing the given letter anywhere.
+     *
+     * @param set    is the bitset to narrow.
+     * @param letter is the alphabet index of the letter.
+     */
+    public void excludeLetter(long[] set, int letter) {
+        requireAtMost(set, letter, 0);
+    }
+
+    /**
+     * returns the number of words in a bitset.
+     *
+     * @param set is the bitset.
+     * @return the number of set bits.
+     */
+    public static int count(long[] set) {
+        int count = 0;
+        for (int i = 0; i < set.length; i++) {
+            count += Long.bitCount(set[i]);
+        }
+        return count;
+    }
+
+    /**
+     * intersects a bitset with another in place.
+     *
+     * @param set   is the bitset to narrow.
+     * @param other is the bitset to intersect with.
+     */
+    private static void and(long[] set, long[] other) {
+        for (int i = 0; i < set.length; i++) {
+            set[i] &= other[i];
+        }
+    }
+
+    /**
+     * removes the bits of another bitset from a bitset in place.
+     *
+     * @param set   is the bitset to narrow.
+     * @param other is the bitset to remove.
+     */
+    private static void andNot(long[] set, long[] other) {
+        for (int i = 0; i < set.length; i++) {
+            set[i] &= ~other[i];
+        }
+    }
+}
@@ -0,0 +1,66 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import Project4.src.AnswerIndex;
+import Project4.src.Lexicon;
+import Project4.src.WordCode;
+import Project4.src.WordSet;
+
+/**
+ * Tests AnswerIndex class
+ *
+ * @author Roshni Desai
+ */
+public class AnswerIndexTest {
+
+    /**
+     * Test all and count on a small set
+     */
+    @Test
+    public void testAll() {
+        AnswerIndex index = new AnswerIndex(new WordSet(new String[] { "EAGLE", "ELEGY", "SISSY" }));
+        long[] all = index.all();
+        assertEquals(1, all.length, "Test bitset length");
+        assertEquals(3, AnswerIndex.count(all), "Test all words set");
+        index.requireAtLeast(all, 'S' - 'A', 3);
+        assertEquals(1, AnswerIndex.count(all), "Test only SISSY has three S");
+    }
+
+    /**
+     * Test a constraint query against a scan of the words
+     */
+    @Test
+    public void testQueryMatchesScan() {
+        WordSet answers = Lexicon.getDefault().getWolfleWords();
+        AnswerIndex index = Lexicon.getDefault().getAnswerIndex();
+        long[] set = index.all();
+        index.requireLetterAt(set, 'R' - 'A', 1);
+        index.excludeLetter(set, 'E' - 'A');
+        index.requireAtLeast(set, 'A' - 'A', 1);
+        index.excludeLetterAt(set, 'A' - 'A', 2);
+        index.requireAtMost(set, 'O' - 'A', 1);
+
+        int expected = 0;
+        for (int i = 0; i < answers.size(); i++) {
+            String word = WordCode.decode(answers.getCode(i));
+            boolean match = word.charAt(1) == 'R' && word.indexOf('E') < 0 && word.indexOf('A') >= 0
+                    && word.charAt(2) != 'A' && word.indexOf('O') == word.lastIndexOf('O');
+            assertEquals(match, (set[i >>> 6] & (1L << i)) != 0, "Test query bit for " + word);
+            if (match) {
+                expected++;
+            }
+        }
+        assertTrue(expected > 0, "Test query matches some words");
+        assertEquals(expected, AnswerIndex.count(set), "Test query count");
+    }
+
+    /**
+     * Test the AnswerIndex methods with invalid values
+     */
+    @Test
+    public void testExceptions() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> new AnswerIndex(null));
+        assertEquals("Null word set", e.getMessage(), "AnswerIndex Null word set message");
+    }
+}
@@ -0,0 +1,170 @@
+package Project4.src;
+
+public class BatchEvaluator {
+
+    /**
+     * the name of the Vector API implementation, which is only present when
+     * the vector sources were compiled in.
+     */
+    private static final String VECTOR_CLASS = "Project4.src.VectorBatchEvaluator";
+
+    /**
+     * the portable implementation.
+     */
+    private static final BatchEvaluator SCALAR = new BatchEvaluator();
+
+    /**
+     * the fastest implementation that loads in this JVM.
+     */
+    private static final BatchEvaluator BEST = loadBest();
+
+    /**
+     * constructs a BatchEvaluator. Subclasses replace the kernel.
+     */
+    BatchEvaluator() {
+    }
+
+    /**
+     * returns the fastest evaluator available: the Vector API implementation if
+     * it was compiled in and the JVM was started with --add-modules
+     * jdk.incubator.vector, the scalar one otherwise. Both give identical
+     * results.
+     *
+     * @return the evaluator.
+     */
+    public static BatchEvaluator get() {
+        return BEST;
+    }
+
+    /**
+     * returns the scalar evaluator, which runs on any JVM.
+     *
+     * @return the scalar evaluator.
+     */
+    public static BatchEvaluator scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * loads the Vector API implementation, falling back to the scalar one if
+     * the class or the incubator module is missing.
+     *
+     * @return the evaluator to use.
+     */
+    private static BatchEvaluator loadBest() {
+        try {
+            return (BatchEvaluator) Class.forName(VECTOR_CLASS).getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+
+    /**
+     * checks if this evaluator uses the Vector API.
+     *
+     * @return true if evaluation is vectorized, false otherwise.
+     */
+    public boolean isVectorized() {
+        return false;
+    }
+
+    /**
+     * evaluates every guess against every secret word, all of Wolfle.COLS
+     * letters. The pattern for guess g and secret s is written to
+     * out[g * secretCodes.length + s], as the unsigned byte Feedback.evaluate
+     * would return. Patterns of longer words do not fit in a byte, so codes
+     * outside the Wolfle.COLS code space are rejected; words of other lengths
+     * go through the overload that takes a length. The evaluator is
+     * thread-safe.
+     *
+     * @param guessCodes  is the WordCodes of the guesses.
+     * @param secretCodes is the WordCodes of the secret words.
+     * @param out         is the array the patterns are written to.
+     * @throws IllegalArgumentException if an array is null, out is too small,
+     *                                  or a code is outside the Wolfle.COLS
+     *                                  code space.
+     */
+    public final void evaluateBatch(int[] guessCodes, int[] secretCodes, byte[] out) {
+        if (guessCodes == null || secretCodes == null || out == null) {
+            throw new IllegalArgumentException("Null argument");
+        }
+        if ((long) guessCodes.length * secretCodes.length > out.length) {
+            throw new IllegalArgumentException("Output too small");
+        }
+        checkCodes(guessCodes, Wolfle.COLS);
+        checkCodes(secretCodes, Wolfle.COLS);
+        evaluate(guessCodes, secretCodes, out);
+    }
+
+    /**
+     * evaluates every guess against every secret word, all of the given
+     * length, with the scalar kernel. The pattern for guess g and secret s is
+     * written to out[g * secretCodes.length + s], as Feedback.evaluate would
+     * return it. The evaluator is thread-safe.
+     *
+     * @param guessCodes  is the WordCodes of the guesses.
+     * @param secretCodes is the WordCodes of the secret words.
+     * @param length      is the number of letters in every word.
+     * @param out         is the array the patterns are written to.
+     * @throws IllegalArgumentException if an array is null, the length has no
+     *                                  int codes, out is too small, or a code
+     *                                  is outside the code space of that
+     *                                  length.
+     */
+    public final void evaluateBatch(int[] guessCodes, int[] secretCodes, int length, int[] out) {
+        if (guessCodes == null || secretCodes == null || out == null) {
+            throw new IllegalArgumentException("Null argument");
+        }
+        if (!WordCode.fitsInt(length)) {
+            throw new IllegalArgumentException("Invalid word length");
+        }
+        if ((long) guessCodes.length * secretCodes.length > out.length) {
+            throw new IllegalArgumentException("Output too small");
+        }
+        checkCodes(guessCodes, length);
+        checkCodes(secretCodes, length);
+        Feedback feedback = new Feedback(length);
+        for (int g = 0; g < guessCodes.length; g++) {
+            int offset = g * secretCodes.length;
+            for (int s = 0; s < secretCodes.length; s++) {
+                out[offset + s] = feedback.evaluate(guessCodes[g], secretCodes[s]);
+            }
+        }
+    }
+
+    /**
+     * checks that every code fits in the code space of the given length, so a
+     * longer word can never be evaluated as a shorter one. A single compare
+     * per code keeps the check far below the cost of the evaluation.
+     *
+     * @param codes  is the codes to check.
+     * @param length is the number of letters.
+     * @throws IllegalArgumentException if a code is out of range.
+     */
+    private static void checkCodes(int[] codes, int length) {
+        int space = WordCode.codeSpace(length);
+        for (int i = 0; i < codes.length; i++) {
+            if (codes[i] < 0 || codes[i] >= space) {
+                throw new IllegalArgumentException("Invalid code");
+            }
+        }
+    }
+
+    /**
+     * evaluates every guess against every secret with a Feedback evaluator.
+     *
+     * @param guessCodes  is the WordCodes of the guesses.
+     * @param secretCodes is the WordCodes of the secret words.
+     * @param out         is the array the patterns are written to.
+     */
+    void evaluate(int[] guessCodes, int[] secretCodes, byte[] out) {
+        Feedback feedback = new Feedback();
+        for (int g = 0; g < guessCodes.length; g++) {
+            int offset = g * secretCodes.length;
+            for (int s = 0; s < secretCodes.length; s++) {
+                out[offset + s] = (byte) feedback.evaluate(guessCodes[g], secretCodes[s]);
+            }
+        }
+    }
+}
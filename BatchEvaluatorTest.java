@@ -0,0 +1,141 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import Project4.src.BatchEvaluator;
+import Project4.src.Feedback;
+import Project4.src.Lexicon;
+import Project4.src.WordCode;
+import Project4.src.WordSet;
+
+/**
+ * Tests BatchEvaluator class
+ *
+ * @author Roshni Desai
+ */
+public class BatchEvaluatorTest {
+
+    /**
+     * Checks a batch against Feedback.evaluate for every pair
+     *
+     * @param evaluator the evaluator to check
+     * @param guesses   the guess codes
+     * @param secrets   the secret codes
+     */
+    private static void assertMatchesFeedback(BatchEvaluator evaluator, int[] guesses,
+            int[] secrets) {
+        byte[] out = new byte[guesses.length * secrets.length];
+        evaluator.evaluateBatch(guesses, secrets, out);
+        Feedback feedback = new Feedback();
+        for (int g = 0; g < guesses.length; g++) {
+            for (int s = 0; s < secrets.length; s++) {
+                assertEquals(feedback.evaluate(guesses[g], secrets[s]),
+                        out[g * secrets.length + s] & 0xFF, "Test pattern for "
+                                + WordCode.decode(guesses[g]) + " against "
+                                + WordCode.decode(secrets[s]));
+            }
+        }
+    }
+
+    /**
+     * Test repeated letters against every answer, with a length that leaves a
+     * tail after the last full vector
+     */
+    @Test
+    public void testRepeatedLetters() {
+        int[] guesses = { WordCode.encode("EERIE"), WordCode.encode("SISSY"),
+            WordCode.encode("GAUGE"), WordCode.encode("TASTE"), WordCode.encode("LLAMA") };
+        WordSet answers = Lexicon.getDefault().getWolfleWords();
+        int[] secrets = new int[answers.size()];
+        for (int i = 0; i < secrets.length; i++) {
+            secrets[i] = answers.getCode(i);
+        }
+        assertMatchesFeedback(BatchEvaluator.scalar(), guesses, secrets);
+        assertMatchesFeedback(BatchEvaluator.get(), guesses, secrets);
+    }
+
+    /**
+     * Test random guesses against random answers
+     */
+    @Test
+    public void testRandomWords() {
+        Random random = new Random(16);
+        WordSet valid = Lexicon.getDefault().getValidWords();
+        WordSet answers = Lexicon.getDefault().getWolfleWords();
+        int[] guesses = new int[200];
+        for (int i = 0; i < guesses.length; i++) {
+            guesses[i] = valid.getCode(random.nextInt(valid.size()));
+        }
+        int[] secrets = new int[301];
+        for (int i = 0; i < secrets.length; i++) {
+            secrets[i] = answers.getCode(random.nextInt(answers.size()));
+        }
+        assertMatchesFeedback(BatchEvaluator.scalar(), guesses, secrets);
+        assertMatchesFeedback(BatchEvaluator.get(), guesses, secrets);
+        assertFalse(BatchEvaluator.scalar().isVectorized(), "Test scalar evaluator");
+    }
+
+    /**
+     * Test the evaluator picked for this JVM is the vector one when the build
+     * says the vector kernel was compiled in and its module added
+     */
+    @Test
+    public void testVectorKernelLoaded() {
+        if (Boolean.getBoolean("wolfle.expectVectorized")) {
+            assertTrue(BatchEvaluator.get().isVectorized(), "Test vector evaluator loaded");
+        }
+    }
+
+    /**
+     * Test words of other lengths against Feedback for that length
+     */
+    @Test
+    public void testOtherLengths() {
+        String[][] words = { { "WOLF", "HOWL", "LOLL", "PACK" },
+            { "EAGLES", "SEESAW", "LLAMAS", "ZIZZLE" } };
+        for (String[] list : words) {
+            int length = list[0].length();
+            int[] codes = new int[list.length];
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = WordCode.encode(list[i], length);
+            }
+            int[] out = new int[codes.length * codes.length];
+            BatchEvaluator.get().evaluateBatch(codes, codes, length, out);
+            Feedback feedback = new Feedback(length);
+            for (int g = 0; g < codes.length; g++) {
+                for (int s = 0; s < codes.length; s++) {
+                    assertEquals(feedback.evaluate(codes[g], codes[s]), out[g * codes.length + s],
+                            "Test pattern for " + list[g] + " against " + list[s]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test the BatchEvaluator methods with invalid values
+     */
+    @Test
+    public void testExceptions() {
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> BatchEvaluator.get().evaluateBatch(null, new int[0], new byte[0]));
+        assertEquals("Null argument", e.getMessage(), "evaluateBatch Null argument message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> BatchEvaluator.get().evaluateBatch(new int[2], new int[3], new byte[5]));
+        assertEquals("Output too small", e.getMessage(), "evaluateBatch Output too small message");
+        int[] sixLetters = { WordCode.encode("SEESAW", 6) };
+        e = assertThrows(IllegalArgumentException.class,
+                () -> BatchEvaluator.get().evaluateBatch(sixLetters, sixLetters, new byte[1]));
+        assertEquals("Invalid code", e.getMessage(), "evaluateBatch six letter code message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> BatchEvaluator.get().evaluateBatch(new int[] { -1 }, new int[1], new byte[1]));
+        assertEquals("Invalid code", e.getMessage(), "evaluateBatch negative code message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> BatchEvaluator.get().evaluateBatch(sixLetters, sixLetters, 5, new int[1]));
+        assertEquals("Invalid code", e.getMessage(), "evaluateBatch length mismatch message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> BatchEvaluator.get().evaluateBatch(sixLetters, sixLetters, 7, new int[1]));
+        assertEquals("Invalid word length", e.getMessage(), "evaluateBatch Invalid word length message");
+    }
+}
@@ -0,0 +1,302 @@
+package Project4.src;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Random;
+
+public final class DailySchedule {
+
+    /**
+     * the name of the calendar file main writes next to the word files.
+     */
+    public static final String FILE_NAME = "DailyCalendar.bin";
+
+    /**
+     * marks the start of a calendar file ("WCAL").
+     */
+    private static final int MAGIC = 0x5743414C;
+
+    /**
+     * the version of the file layout.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * the size of the header: magic, version, word length, word count, first
+     * day and seed.
+     */
+    private static final int HEADER_BYTES = 32;
+
+    /**
+     * the first day of the schedule, as a count of days since 1970-01-01.
+     */
+    private final long startDay;
+
+    /**
+     * the seed the permutation was shuffled with.
+     */
+    private final long seed;
+
+    /**
+     * the number of letters in every word.
+     */
+    private final int wordLength;
+
+    /**
+     * the long WordCodes of the wolfle words in the order they are served, one
+     * per day. Every word appears once, so no word repeats within a cycle.
+     */
+    private final long[] codes;
+
+    /**
+     * constructs a DailySchedule over an already shuffled list of codes.
+     *
+     * @param startDay   is the first day of the schedule.
+     * @param seed       is the seed of the shuffle.
+     * @param wordLength is the number of letters in every word.
+     * @param codes      is the shuffled codes.
+     */
+    private DailySchedule(long startDay, long seed, int wordLength, long[] codes) {
+        this.startDay = startDay;
+        this.seed = seed;
+        this.wordLength = wordLength;
+        this.codes = codes;
+    }
+
+    /**
+     * builds the schedule for a lexicon by shuffling its wolfle words with the
+     * given seed. The shuffle uses java.util.Random, whose sequence is fixed by
+     * its specification, so every JVM given the same lexicon, seed and start
+     * builds the same schedule.
+     *
+     * @param lexicon is the lexicon whose wolfle words are scheduled.
+     * @param seed    is the seed of the shuffle.
+     * @param start   is the day the first word is served.
+     * @return the schedule.
+     * @throws IllegalArgumentException if the lexicon or start is null or the
+     *                                  lexicon has no wolfle words.
+     */
+    public static DailySchedule build(Lexicon lexicon, long seed, LocalDate start) {
+        if (lexicon == null || start == null) {
+            throw new IllegalArgumentException("Null argument");
+        }
+        WordSet answers = lexicon.getWolfleWords();
+        if (answers.size() == 0) {
+            throw new IllegalArgumentException("No wolfle words");
+        }
+        long[] codes = new long[answers.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = answers.getLongCode(i);
+        }
+        Random random = new Random(seed);
+        for (int i = codes.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long code = codes[i];
+            codes[i] = codes[j];
+            codes[j] = code;
+        }
+        return new DailySchedule(start.toEpochDay(), seed, lexicon.getWordLength(), codes);
+    }
+
+    /**
+     * reads a calendar file written by write. The file holds the words
+     * themselves, so lookups need no lexicon.
+     *
+     * @param filePath is the path of the calendar file.
+     * @return the schedule.
+     * @throws IllegalArgumentException if the path is null, the file cannot be
+     *                                  read, or it is not a calendar file.
+     */
+    public static DailySchedule open(String filePath) {
+        if (filePath == null) {
+            throw new IllegalArgumentException("Null file path");
+        }
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Not a daily calendar: " + filePath);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                // keep reading until the whole file is in the buffer
+            }
+            buffer.flip();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to access file: " + filePath);
+        }
+
+        int magic = buffer.getInt();
+        int version = buffer.getInt();
+        int wordLength = buffer.getInt();
+        int count = buffer.getInt();
+        long startDay = buffer.getLong();
+        long seed = buffer.getLong();
+        if (magic != MAGIC || version != VERSION || !WordCode.isValidLength(wordLength)
+                || count <= 0 || buffer.remaining() != (long) count * codeBytes(wordLength)) {
+            throw new IllegalArgumentException("Not a daily calendar: " + filePath);
+        }
+        long[] codes = new long[count];
+        for (int i = 0; i < count; i++) {
+            codes[i] = WordCode.fitsInt(wordLength) ? buffer.getInt() : buffer.getLong();
+        }
+        return new DailySchedule(startDay, seed, wordLength, codes);
+    }
+
+    /**
+     * writes the schedule to a calendar file: a 32 byte header followed by
+     * one WordCode per day of the cycle, 4 bytes for words with int codes and
+     * 8 bytes for longer words.
+     *
+     * @param filePath is the path of the file to write.
+     * @throws IllegalArgumentException if the path is null or the file cannot
+     *                                  be written.
+     */
+    public void write(String filePath) {
+        if (filePath == null) {
+            throw new IllegalArgumentException("Null file path");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + codes.length * codeBytes(wordLength));
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(wordLength).putInt(codes.length);
+        buffer.putLong(startDay).putLong(seed);
+        for (int i = 0; i < codes.length; i++) {
+            if (WordCode.fitsInt(wordLength)) {
+                buffer.putInt((int) codes[i]);
+            } else {
+                buffer.putLong(codes[i]);
+            }
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to write file: " + filePath);
+        }
+    }
+
+    /**
+     * returns the WordCode of the word served on a day in a region. Each
+     * region walks the same cycle from its own offset, taken from the
+     * region's String.hashCode, so regions usually see different words on the
+     * same day but each still never repeats a word within a cycle. This
+     * method runs in constant time and does not allocate.
+     *
+     * @param date   is the day.
+     * @param region is the region, or "" for the global word.
+     * @return the long WordCode of the day's word.
+     * @throws IllegalArgumentException if an argument is null or the date is
+     *                                  before the start of the schedule.
+     */
+    public long codeFor(LocalDate date, String region) {
+        if (date == null || region == null) {
+            throw new IllegalArgumentException("Null argument");
+        }
+        long day = date.toEpochDay() - startDay;
+        if (day < 0) {
+            throw new IllegalArgumentException("Invalid date");
+        }
+        return codes[(int) Math.floorMod(day + region.hashCode(), (long) codes.length)];
+    }
+
+    /**
+     * returns the global word served on a day.
+     *
+     * @param date is the day.
+     * @return the day's word.
+     * @throws IllegalArgumentException if the date is null or before the start
+     *                                  of the schedule.
+     */
+    public String secretFor(LocalDate date) {
+        return secretFor(date, "");
+    }
+
+    /**
+     * returns the word served on a day in a region; see codeFor.
+     *
+     * @param date   is the day.
+     * @param region is the region, or "" for the global word.
+     * @return the day's word.
+     * @throws IllegalArgumentException if an argument is null or the date is
+     *                                  before the start of the schedule.
+     */
+    public String secretFor(LocalDate date, String region) {
+        return WordCode.decodeLong(codeFor(date, region), wordLength);
+    }
+
+    /**
+     * returns the first day of the schedule.
+     *
+     * @return the start date.
+     */
+    public LocalDate getStart() {
+        return LocalDate.ofEpochDay(startDay);
+    }
+
+    /**
+     * returns the seed the schedule was shuffled with.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * returns the number of days before the schedule repeats, one for each
+     * wolfle word.
+     *
+     * @return the cycle length.
+     */
+    public int getCycleLength() {
+        return codes.length;
+    }
+
+    /**
+     * returns the number of letters in every scheduled word.
+     *
+     * @return the word length.
+     */
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    /**
+     * returns the size of each word's code in a calendar file.
+     *
+     * @param wordLength is the number of letters in every word.
+     * @return 4 for words with int codes, 8 for longer words.
+     */
+    private static int codeBytes(int wordLength) {
+        return WordCode.fitsInt(wordLength) ? Integer.BYTES : Long.BYTES;
+    }
+
+    /**
+     * builds the calendar file for the default lexicon.
+     *
+     * @param args args[0] seed, args[1] start date (yyyy-mm-dd), args[2]
+     *             optional path of the file to write
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: DailySchedule seed start-date [file]");
+            return;
+        }
+        String filePath = "word-files/" + FILE_NAME;
+        if (args.length == 3) {
+            filePath = args[2];
+        }
+        DailySchedule schedule = build(Lexicon.getDefault(), Long.parseLong(args[0]),
+                LocalDate.parse(args[1]));
+        schedule.write(filePath);
+        System.out.println("Wrote " + filePath + ": " + schedule.getCycleLength() + " days from "
+                + schedule.getStart());
+    }
+}
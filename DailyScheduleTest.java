@@ -0,0 +1,155 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import Project4.src.DailySchedule;
+import Project4.src.Lexicon;
+
+/**
+ * Tests DailySchedule class
+ *
+ * @author Roshni Desai
+ */
+public class DailyScheduleTest {
+
+    /** First day of the schedules in these tests */
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    /** Directory for calendar files */
+    @TempDir
+    File dir;
+
+    /**
+     * Test that a cycle serves every wolfle word once
+     */
+    @Test
+    public void testNoRepeatsWithinCycle() {
+        Lexicon lexicon = Lexicon.getDefault();
+        DailySchedule schedule = DailySchedule.build(lexicon, 42, START);
+        assertEquals(lexicon.getWolfleWordCount(), schedule.getCycleLength(), "Test cycle length");
+        Set<String> served = new HashSet<String>();
+        for (int day = 0; day < schedule.getCycleLength(); day++) {
+            String word = schedule.secretFor(START.plusDays(day));
+            assertTrue(lexicon.isWolfleWord(word), "Test " + word + " is a wolfle word");
+            assertTrue(served.add(word), "Test " + word + " not repeated");
+        }
+        assertEquals(schedule.secretFor(START),
+                schedule.secretFor(START.plusDays(schedule.getCycleLength())),
+                "Test next cycle starts over");
+    }
+
+    /**
+     * Test that the same seed gives the same words and another seed does not
+     */
+    @Test
+    public void testDeterministic() {
+        Lexicon lexicon = Lexicon.getDefault();
+        DailySchedule first = DailySchedule.build(lexicon, 42, START);
+        DailySchedule second = DailySchedule.build(lexicon, 42, START);
+        DailySchedule other = DailySchedule.build(lexicon, 43, START);
+        int differences = 0;
+        for (int day = 0; day < 30; day++) {
+            LocalDate date = START.plusDays(day);
+            assertEquals(first.secretFor(date), second.secretFor(date), "Test same word on " + date);
+            if (!first.secretFor(date).equals(other.secretFor(date))) {
+                differences++;
+            }
+        }
+        assertTrue(differences > 0, "Test another seed gives other words");
+    }
+
+    /**
+     * Test that regions walk the same cycle from different offsets
+     */
+    @Test
+    public void testRegions() {
+        DailySchedule schedule = DailySchedule.build(Lexicon.getDefault(), 42, START);
+        assertEquals(schedule.secretFor(START), schedule.secretFor(START, ""), "Test global region");
+        Set<String> served = new HashSet<String>();
+        for (int day = 0; day < schedule.getCycleLength(); day++) {
+            assertTrue(served.add(schedule.secretFor(START.plusDays(day), "EU")),
+                    "Test no repeats in region");
+        }
+        assertNotEquals(schedule.secretFor(START, "EU"), schedule.secretFor(START, "US"),
+                "Test regions get different words");
+    }
+
+    /**
+     * Test writing and reading a calendar file
+     *
+     * @throws IOException if the file cannot be read
+     */
+    @Test
+    public void testWriteAndOpen() throws IOException {
+        DailySchedule schedule = DailySchedule.build(Lexicon.getDefault(), 7, START);
+        String path = new File(dir, DailySchedule.FILE_NAME).getPath();
+        schedule.write(path);
+        assertEquals(32 + 4 * schedule.getCycleLength(), new File(path).length(), "Test file size");
+
+        DailySchedule read = DailySchedule.open(path);
+        assertEquals(START, read.getStart(), "Test start");
+        assertEquals(7, read.getSeed(), "Test seed");
+        assertEquals(5, read.getWordLength(), "Test word length");
+        assertEquals(schedule.getCycleLength(), read.getCycleLength(), "Test cycle length");
+        for (int day = 0; day < read.getCycleLength(); day++) {
+            LocalDate date = START.plusDays(day);
+            assertEquals(schedule.secretFor(date, "US"), read.secretFor(date, "US"),
+                    "Test same word on " + date);
+        }
+
+        Files.write(new File(path).toPath(), "not a calendar file at all, no".getBytes("US-ASCII"));
+        Exception e = assertThrows(IllegalArgumentException.class, () -> DailySchedule.open(path));
+        assertEquals("Not a daily calendar: " + path, e.getMessage(), "open Not a daily calendar message");
+    }
+
+    /**
+     * Test the DailySchedule methods with invalid values
+     */
+    @Test
+    public void testExceptions() {
+        DailySchedule schedule = DailySchedule.build(Lexicon.getDefault(), 42, START);
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> schedule.secretFor(START.minusDays(1)));
+        assertEquals("Invalid date", e.getMessage(), "secretFor Invalid date message");
+        e = assertThrows(IllegalArgumentException.class, () -> schedule.secretFor(START, null));
+        assertEquals("Null argument", e.getMessage(), "secretFor Null argument message");
+        e = assertThrows(IllegalArgumentException.class, () -> DailySchedule.build(null, 42, START));
+        assertEquals("Null argument", e.getMessage(), "build Null argument message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> DailySchedule.open("no-such-file.bin"));
+        assertEquals("Unable to access file: no-such-file.bin", e.getMessage(),
+                "open Unable to access file message");
+    }
+
+    /**
+     * Test writing and reading a calendar of seven letter words, whose codes
+     * take eight bytes
+     *
+     * @throws IOException if the file cannot be read
+     */
+    @Test
+    public void testSevenLetters() throws IOException {
+        String[] words = { "WOLFISH", "EXAMPLE", "ZIGZAGS" };
+        DailySchedule schedule = DailySchedule.build(new Lexicon(words, words, 7), 3, START);
+        String path = new File(dir, DailySchedule.FILE_NAME).getPath();
+        schedule.write(path);
+        assertEquals(32 + 8 * 3, new File(path).length(), "Test file size");
+        DailySchedule read = DailySchedule.open(path);
+        assertEquals(7, read.getWordLength(), "Test word length");
+        Set<String> seen = new HashSet<String>();
+        for (int day = 0; day < 3; day++) {
+            LocalDate date = START.plusDays(day);
+            assertEquals(schedule.secretFor(date), read.secretFor(date), "Test same word on " + date);
+            seen.add(read.secretFor(date));
+        }
+        assertEquals(3, seen.size(), "Test every word once per cycle");
+    }
+}
@@ -0,0 +1,244 @@
+package Project4.src;
+
+public final class Feedback {
+
+    /**
+     * pattern digit for a letter that is not in the word.
+     */
+    public static final int NOT_IN_WORD = 0;
+
+    /**
+     * pattern digit for a letter that is in the word but in another position.
+     */
+    public static final int IN_WORD = 1;
+
+    /**
+     * pattern digit for a letter that is in the correct position.
+     */
+    public static final int IN_POSITION = 2;
+
+    /**
+     * the number of distinct feedback patterns, 3 to the power Wolfle.COLS.
+     */
+    public static final int PATTERN_COUNT = power(Wolfle.COLS);
+
+    /**
+     * the pattern for a guess with every letter in position.
+     */
+    public static final int ALL_IN_POSITION = PATTERN_COUNT - 1;
+
+    /**
+     * powers of 3 used to read and write the digit for each column.
+     */
+    private static final int[] PLACE = new int[WordCode.MAX_LENGTH + 1];
+
+    static {
+        for (int i = 0; i < PLACE.length; i++) {
+            PLACE[i] = power(i);
+        }
+    }
+
+    /**
+     * the number of unmatched copies of each letter left in the secret word
+     * during an evaluation. Every slot is back to 0 between calls.
+     */
+    private final int[] counts;
+
+    /**
+     * the number of letters in the words this evaluator compares.
+     */
+    private final int length;
+
+    /**
+     * constructs a Feedback evaluator for words of Wolfle.COLS letters. An
+     * evaluator keeps scratch state between calls and must not be shared
+     * between threads; give each thread its own.
+     */
+    public Feedback() {
+        this(Wolfle.COLS);
+    }
+
+    /**
+     * constructs a Feedback evaluator for words of the given length.
+     *
+     * @param length is the number of letters in each word.
+     * @throws IllegalArgumentException if the length cannot be encoded.
+     */
+    public Feedback(int length) {
+        if (!WordCode.isValidLength(length)) {
+            throw new IllegalArgumentException("Invalid word length");
+        }
+        this.length = length;
+        counts = new int[Alphabet.MAX_LETTERS];
+    }
+
+    /**
+     * returns the number of distinct feedback patterns for words of the given
+     * length, 3 to the power length.
+     *
+     * @param length is the number of letters.
+     * @return the number of patterns.
+     */
+    public static int patternCount(int length) {
+        return PLACE[length];
+    }
+
+    /**
+     * returns the pattern for a guess of the given length with every letter in
+     * position.
+     *
+     * @param length is the number of letters.
+     * @return the winning pattern.
+     */
+    public static int allInPosition(int length) {
+        return PLACE[length] - 1;
+    }
+
+    /**
+     * evaluates a guess against a secret word and returns the feedback as a
+     * base-3 number with one digit per column, column 0 being the lowest digit.
+     * Letters in position are marked first; each remaining guessed letter is
+     * then marked IN_WORD from left to right only while the secret word still
+     * has an unmatched copy of it, so a repeated letter is never marked more
+     * times than it appears in the secret word. This method does not allocate.
+     *
+     * Words of more than WordCode.MAX_INT_LENGTH letters have no int code;
+     * use evaluate(long, long) for them.
+     *
+     * @param guessCode  is the WordCode of the guess.
+     * @param secretCode is the WordCode of the secret word.
+     * @return the feedback pattern, from 0 to patternCount(length) - 1.
+     */
+    public int evaluate(int guessCode, int secretCode) {
+        int pattern = 0;
+        for (int i = 0; i < length; i++) {
+            int secret = WordCode.letterAt(secretCode, i);
+            if (secret == WordCode.letterAt(guessCode, i)) {
+                pattern += IN_POSITION * PLACE[i];
+            } else {
+                counts[secret]++;
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            int guessed = WordCode.letterAt(guessCode, i);
+            if (guessed != WordCode.letterAt(secretCode, i) && counts[guessed] > 0) {
+                counts[guessed]--;
+                pattern += IN_WORD * PLACE[i];
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            counts[WordCode.letterAt(secretCode, i)] = 0;
+        }
+        return pattern;
+    }
+
+    /**
+     * evaluates a guess against a secret word like evaluate(int, int), but
+     * takes the long codes of WordCode.encodeLong, so it works for every
+     * length. This method does not allocate.
+     *
+     * @param guessCode  is the long WordCode of the guess.
+     * @param secretCode is the long WordCode of the secret word.
+     * @return the feedback pattern, from 0 to patternCount(length) - 1.
+     */
+    public int evaluate(long guessCode, long secretCode) {
+        int pattern = 0;
+        for (int i = 0; i < length; i++) {
+            int secret = WordCode.letterAt(secretCode, i);
+            if (secret == WordCode.letterAt(guessCode, i)) {
+                pattern += IN_POSITION * PLACE[i];
+            } else {
+                counts[secret]++;
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            int guessed = WordCode.letterAt(guessCode, i);
+            if (guessed != WordCode.letterAt(secretCode, i) && counts[guessed] > 0) {
+                counts[guessed]--;
+                pattern += IN_WORD * PLACE[i];
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            counts[WordCode.letterAt(secretCode, i)] = 0;
+        }
+        return pattern;
+    }
+
+    /**
+     * returns the digit of a pattern for the given column.
+     *
+     * @param pattern is the feedback pattern.
+     * @param col     is the column to read.
+     * @return NOT_IN_WORD, IN_WORD or IN_POSITION.
+     */
+    public static int digitAt(int pattern, int col) {
+        return pattern / PLACE[col] % 3;
+    }
+
+    /**
+     * returns the letter status of a pattern for the given column.
+     *
+     * @param pattern is the feedback pattern.
+     * @param col     is the column to read.
+     * @return the status for the letter in the column.
+     */
+    public static Letter.Status statusAt(int pattern, int col) {
+        int digit = digitAt(pattern, col);
+        if (digit == IN_POSITION) {
+            return Letter.Status.IN_POSITION;
+        } else if (digit == IN_WORD) {
+            return Letter.Status.IN_WORD;
+        } else {
+            return Letter.Status.NOT_IN_WORD;
+        }
+    }
+
+    /**
+     * returns the pattern digit for a letter status.
+     *
+     * @param status is the status of a guessed letter.
+     * @return NOT_IN_WORD, IN_WORD or IN_POSITION.
+     * @throws IllegalArgumentException if the status is null or NOT_GUESSED.
+     */
+    public static int digitOf(Letter.Status status) {
+        if (status == Letter.Status.IN_POSITION) {
+            return IN_POSITION;
+        } else if (status == Letter.Status.IN_WORD) {
+            return IN_WORD;
+        } else if (status == Letter.Status.NOT_IN_WORD) {
+            return NOT_IN_WORD;
+        } else {
+            throw new IllegalArgumentException("Invalid status");
+        }
+    }
+
+    /**
+     * returns the amount a digit adds to a pattern in the given column, so a
+     * pattern is the sum of place(col, digitAt(pattern, col)) over all columns.
+     *
+     * @param col   is the column of the digit.
+     * @param digit is NOT_IN_WORD, IN_WORD or IN_POSITION.
+     * @return the digit's contribution to a pattern.
+     */
+    public static int place(int col, int digit) {
+        return digit * PLACE[col];
+    }
+
+    /**
+     * returns 3 raised to the given exponent.
+     *
+     * @param exponent is the exponent, at least 0.
+     * @return 3 to the power exponent.
+     */
+    private static int power(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 3;
+        }
+        return result;
+    }
+}
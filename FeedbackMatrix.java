@@ -0,0 +1,253 @@
+package Project4.src;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.IntStream;
+
+public final class FeedbackMatrix {
+
+    /**
+     * the name of the matrix file that Lexicon looks for next to the valid word
+     * file.
+     */
+    public static final String FILE_NAME = "FeedbackMatrix.bin";
+
+    /**
+     * marks the start of a matrix file ("WFMX").
+     */
+    private static final int MAGIC = 0x57464D58;
+
+    /**
+     * the version of the file layout.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * the size of the header: magic, version, guess count, answer count and
+     * the fingerprint of the word lists.
+     */
+    private static final int HEADER_BYTES = 24;
+
+    /**
+     * the read-only mapping of the whole file.
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * the number of valid guesses, one row each.
+     */
+    private final int guessCount;
+
+    /**
+     * the number of wolfle words, one column each.
+     */
+    private final int answerCount;
+
+    /**
+     * constructs a FeedbackMatrix over an already validated mapping.
+     *
+     * @param buffer      is the mapping of the file.
+     * @param guessCount  is the number of rows.
+     * @param answerCount is the number of columns.
+     */
+    private FeedbackMatrix(MappedByteBuffer buffer, int guessCount, int answerCount) {
+        this.buffer = buffer;
+        this.guessCount = guessCount;
+        this.answerCount = answerCount;
+    }
+
+    /**
+     * computes the feedback pattern of every valid word in the lexicon against
+     * every wolfle word and writes them to a matrix file, one byte per pattern
+     * with one row per guess. Rows are computed in parallel on all cores and
+     * written straight into a mapping of a temporary file in the same
+     * directory, which then atomically replaces the matrix file. A build that
+     * fails or is interrupted leaves any existing file untouched, and processes
+     * that have the old file mapped keep reading it.
+     *
+     * @param lexicon  is the lexicon to build the matrix for.
+     * @param filePath is the path of the file to write.
+     * @throws IllegalArgumentException if the lexicon or path is null, the
+     *                                  lexicon's words are not Wolfle.COLS
+     *                                  letters, or the file cannot be written.
+     */
+    public static void build(Lexicon lexicon, String filePath) {
+        if (lexicon == null || filePath == null) {
+            throw new IllegalArgumentException("Null argument");
+        }
+        if (lexicon.getWordLength() != Wolfle.COLS) {
+            throw new IllegalArgumentException("Invalid word length");
+        }
+        WordSet guesses = lexicon.getValidWords();
+        WordSet answers = lexicon.getWolfleWords();
+        long size = HEADER_BYTES + (long) guesses.size() * answers.size();
+
+        Path target = new File(filePath).getAbsoluteFile().toPath();
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try (RandomAccessFile file = new RandomAccessFile(temp.toFile(), "rw");
+                    FileChannel channel = file.getChannel()) {
+                file.setLength(size);
+                MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                IntStream.range(0, guesses.size()).parallel().forEach(g -> {
+                    Feedback feedback = new Feedback();
+                    int guessCode = guesses.getCode(g);
+                    int offset = HEADER_BYTES + g * answers.size();
+                    for (int a = 0; a < answers.size(); a++) {
+                        out.put(offset + a, (byte) feedback.evaluate(guessCode, answers.getCode(a)));
+                    }
+                });
+                out.putInt(4, VERSION);
+                out.putInt(8, guesses.size());
+                out.putInt(12, answers.size());
+                out.putLong(16, fingerprint(lexicon));
+                out.force();
+                // the magic goes last, so a file whose build did not finish is
+                // never accepted by open
+                out.putInt(0, MAGIC);
+                out.force();
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            temp = null;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to write file: " + filePath);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // the build already failed; a leftover temporary file is harmless
+                }
+            }
+        }
+    }
+
+    /**
+     * maps a matrix file read-only. The mapping is backed by the operating
+     * system's page cache, so every process on the host that opens the same
+     * file shares one copy of it instead of each holding it on the heap.
+     *
+     * @param lexicon  is the lexicon the matrix must have been built for.
+     * @param filePath is the path of the matrix file.
+     * @return the mapped matrix.
+     * @throws IllegalArgumentException if the lexicon's words are not
+     *                                  Wolfle.COLS letters, or the file cannot
+     *                                  be read or was not built for the lexicon.
+     */
+    public static FeedbackMatrix open(Lexicon lexicon, String filePath) {
+        if (lexicon == null || filePath == null) {
+            throw new IllegalArgumentException("Null argument");
+        }
+        if (lexicon.getWordLength() != Wolfle.COLS) {
+            throw new IllegalArgumentException("Invalid word length");
+        }
+        int guessCount = lexicon.getValidWords().size();
+        int answerCount = lexicon.getWolfleWords().size();
+        long size = HEADER_BYTES + (long) guessCount * answerCount;
+
+        MappedByteBuffer buffer;
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "r");
+                FileChannel channel = file.getChannel()) {
+            if (channel.size() != size) {
+                throw new IllegalArgumentException("Feedback matrix does not match lexicon");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to access file: " + filePath);
+        }
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || buffer.getInt(8) != guessCount || buffer.getInt(12) != answerCount
+                || buffer.getLong(16) != fingerprint(lexicon)) {
+            throw new IllegalArgumentException("Feedback matrix does not match lexicon");
+        }
+        return new FeedbackMatrix(buffer, guessCount, answerCount);
+    }
+
+    /**
+     * returns the path of the matrix file that belongs with a valid word file:
+     * FILE_NAME in the same directory.
+     *
+     * @param validWordsFile is the path of the valid word file.
+     * @return the path of the matrix file.
+     */
+    public static String fileFor(String validWordsFile) {
+        File parent = new File(validWordsFile).getParentFile();
+        return new File(parent, FILE_NAME).getPath();
+    }
+
+    /**
+     * computes a fingerprint of the lexicon's words so a matrix built for other
+     * word lists is never used.
+     *
+     * @param lexicon is the lexicon.
+     * @return the fingerprint.
+     */
+    private static long fingerprint(Lexicon lexicon) {
+        long hash = 1;
+        WordSet guesses = lexicon.getValidWords();
+        for (int i = 0; i < guesses.size(); i++) {
+            hash = hash * 31 + guesses.getCode(i);
+        }
+        WordSet answers = lexicon.getWolfleWords();
+        for (int i = 0; i < answers.size(); i++) {
+            hash = hash * 31 + answers.getCode(i);
+        }
+        return hash;
+    }
+
+    /**
+     * returns the number of rows, one for each valid guess.
+     *
+     * @return the number of guesses.
+     */
+    public int getGuessCount() {
+        return guessCount;
+    }
+
+    /**
+     * returns the number of columns, one for each wolfle word.
+     *
+     * @return the number of answers.
+     */
+    public int getAnswerCount() {
+        return answerCount;
+    }
+
+    /**
+     * returns the feedback pattern for a guess against an answer. This method
+     * does not check its arguments and does not allocate.
+     *
+     * @param guessIndex  is the index of the guess in the lexicon's valid words.
+     * @param answerIndex is the index of the answer in the lexicon's wolfle
+     *                    words.
+     * @return the feedback pattern.
+     */
+    public int pattern(int guessIndex, int answerIndex) {
+        return buffer.get(HEADER_BYTES + guessIndex * answerCount + answerIndex) & 0xFF;
+    }
+
+    /**
+     * builds the matrix file for the default lexicon.
+     *
+     * @param args args[0] optional path of the file to write
+     */
+    public static void main(String[] args) {
+        String filePath = fileFor(Lexicon.VALID_WORDS_FILE);
+        if (args.length == 1) {
+            filePath = args[0];
+        }
+        long start = System.nanoTime();
+        build(Lexicon.load(Lexicon.VALID_WORDS_FILE, Lexicon.WOLFLE_WORDS_FILE), filePath);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Wrote " + filePath + " in " + millis + " ms");
+    }
+}
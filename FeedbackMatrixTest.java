@@ -0,0 +1,112 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import Project4.src.Feedback;
+import Project4.src.FeedbackMatrix;
+import Project4.src.Letter;
+import Project4.src.Lexicon;
+import Project4.src.Wolfle;
+import Project4.src.WordSet;
+
+/**
+ * Tests FeedbackMatrix class
+ *
+ * @author Roshni Desai
+ */
+public class FeedbackMatrixTest {
+
+    /** Directory for matrix files */
+    @TempDir
+    File dir;
+
+    /**
+     * Test a built and mapped matrix agrees with computed feedback
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Test
+    public void testBuildAndOpen() throws IOException {
+        Lexicon lexicon = Lexicon.getDefault();
+        File file = File.createTempFile("matrix", ".bin");
+        file.deleteOnExit();
+        FeedbackMatrix.build(lexicon, file.getPath());
+        FeedbackMatrix matrix = FeedbackMatrix.open(lexicon, file.getPath());
+
+        WordSet guesses = lexicon.getValidWords();
+        WordSet answers = lexicon.getWolfleWords();
+        assertEquals(guesses.size(), matrix.getGuessCount(), "Test guess count");
+        assertEquals(answers.size(), matrix.getAnswerCount(), "Test answer count");
+        Feedback feedback = new Feedback();
+        for (int g = 0; g < guesses.size(); g += 7) {
+            for (int a = 0; a < answers.size(); a += 3) {
+                assertEquals(feedback.evaluate(guesses.getCode(g), answers.getCode(a)),
+                        matrix.pattern(g, a), "Test matrix pattern matches evaluate");
+            }
+        }
+
+        Wolfle wolfle = new Wolfle(lexicon.withFeedbackMatrix(matrix), "ELEGY");
+        Letter[] letters = wolfle.evaluateGuess("EERIE");
+        assertEquals(Letter.Status.IN_POSITION, letters[0].getStatus(), "Test lookup E IN_POSITION");
+        assertEquals(Letter.Status.IN_WORD, letters[1].getStatus(), "Test lookup E IN_WORD");
+        assertEquals(Letter.Status.NOT_IN_WORD, letters[4].getStatus(), "Test lookup E NOT_IN_WORD");
+    }
+
+    /**
+     * Test rebuilding a matrix replaces the file without touching a mapping of
+     * the old one and leaves no temporary file behind
+     */
+    @Test
+    public void testRebuildReplacesFile() {
+        Lexicon lexicon = Lexicon.getDefault();
+        File file = new File(dir, FeedbackMatrix.FILE_NAME);
+        FeedbackMatrix.build(lexicon, file.getPath());
+        FeedbackMatrix first = FeedbackMatrix.open(lexicon, file.getPath());
+        FeedbackMatrix.build(lexicon, file.getPath());
+        FeedbackMatrix second = FeedbackMatrix.open(lexicon, file.getPath());
+
+        Feedback feedback = new Feedback();
+        WordSet guesses = lexicon.getValidWords();
+        WordSet answers = lexicon.getWolfleWords();
+        for (int g = 0; g < guesses.size(); g += 101) {
+            for (int a = 0; a < answers.size(); a += 11) {
+                int expected = feedback.evaluate(guesses.getCode(g), answers.getCode(a));
+                assertEquals(expected, first.pattern(g, a), "Test old mapping unchanged");
+                assertEquals(expected, second.pattern(g, a), "Test new mapping");
+            }
+        }
+        assertArrayEquals(new String[] { FeedbackMatrix.FILE_NAME }, dir.list(),
+                "Test no temporary file left");
+    }
+
+    /**
+     * Test the FeedbackMatrix methods with invalid values
+     *
+     * @throws IOException if the temporary file cannot be written
+     */
+    @Test
+    public void testExceptions() throws IOException {
+        File file = File.createTempFile("matrix", ".bin");
+        file.deleteOnExit();
+        try (RandomAccessFile out = new RandomAccessFile(file, "rw")) {
+            out.writeInt(0);
+        }
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> FeedbackMatrix.open(Lexicon.getDefault(), file.getPath()));
+        assertEquals("Feedback matrix does not match lexicon", e.getMessage(),
+                "open wrong size IllegalArgumentException message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> FeedbackMatrix.open(Lexicon.getDefault(), "no-such-file.bin"));
+        assertEquals("Unable to access file: no-such-file.bin", e.getMessage(),
+                "open missing file IllegalArgumentException message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> Lexicon.getDefault().withFeedbackMatrix(null));
+        assertEquals("Null feedback matrix", e.getMessage(),
+                "withFeedbackMatrix null IllegalArgumentException message");
+    }
+}
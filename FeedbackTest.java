@@ -0,0 +1,190 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import Project4.src.Feedback;
+import Project4.src.Letter;
+import Project4.src.Lexicon;
+import Project4.src.Wolfle;
+import Project4.src.WordCode;
+import Project4.src.WordSet;
+
+/**
+ * Tests Feedback class
+ *
+ * @author Roshni Desai
+ */
+public class FeedbackTest {
+
+    /**
+     * Test class constants
+     */
+    @Test
+    public void testClassConstants() {
+        assertEquals(243, Feedback.PATTERN_COUNT, "Test PATTERN_COUNT constant");
+        assertEquals(242, Feedback.ALL_IN_POSITION, "Test ALL_IN_POSITION constant");
+    }
+
+    /**
+     * Test evaluate for a correct guess and a guess with no common letters
+     */
+    @Test
+    public void testEvaluateAllOrNothing() {
+        int elegy = WordCode.encode("ELEGY");
+        assertEquals(Feedback.ALL_IN_POSITION, new Feedback().evaluate(elegy, elegy),
+                "Test evaluate correct guess");
+        assertEquals(0, new Feedback().evaluate(WordCode.encode("TRUNK"), elegy),
+                "Test evaluate guess with no letters in word");
+    }
+
+    /**
+     * Test evaluate writes one base-3 digit per column
+     */
+    @Test
+    public void testEvaluateDigits() {
+        int pattern = new Feedback().evaluate(WordCode.encode("RANGE"), WordCode.encode("ELEGY"));
+        assertEquals(Feedback.NOT_IN_WORD, Feedback.digitAt(pattern, 0), "Test R NOT_IN_WORD");
+        assertEquals(Feedback.NOT_IN_WORD, Feedback.digitAt(pattern, 1), "Test A NOT_IN_WORD");
+        assertEquals(Feedback.NOT_IN_WORD, Feedback.digitAt(pattern, 2), "Test N NOT_IN_WORD");
+        assertEquals(Feedback.IN_POSITION, Feedback.digitAt(pattern, 3), "Test G IN_POSITION");
+        assertEquals(Feedback.IN_WORD, Feedback.digitAt(pattern, 4), "Test E IN_WORD");
+        assertEquals(2 * 27 + 1 * 81, pattern, "Test packed pattern value");
+        assertEquals(Letter.Status.IN_POSITION, Feedback.statusAt(pattern, 3), "Test statusAt G");
+        assertEquals(Letter.Status.IN_WORD, Feedback.statusAt(pattern, 4), "Test statusAt E");
+        assertEquals(Letter.Status.NOT_IN_WORD, Feedback.statusAt(pattern, 0), "Test statusAt R");
+    }
+
+    /**
+     * Test Wolfle evaluatePattern agrees with evaluateGuess
+     */
+    @Test
+    public void testWolfleEvaluatePattern() {
+        Wolfle wolfle = new Wolfle("ELEGY");
+        int pattern = wolfle.evaluatePattern(WordCode.encode("GREEN"), WordCode.encode("ELEGY"));
+        Letter[] letters = wolfle.evaluateGuess("GREEN");
+        for (int i = 0; i < Wolfle.COLS; i++) {
+            assertEquals(letters[i].getStatus(), Feedback.statusAt(pattern, i),
+                    "Test evaluatePattern matches evaluateGuess");
+        }
+    }
+
+    /**
+     * Test a repeated guess letter is only marked as often as it is in the word
+     */
+    @Test
+    public void testEvaluateRepeatedLetters() {
+        Feedback feedback = new Feedback();
+        int pattern = feedback.evaluate(WordCode.encode("SISSY"), WordCode.encode("STAIR"));
+        assertEquals(Feedback.IN_POSITION, Feedback.digitAt(pattern, 0), "Test first S IN_POSITION");
+        assertEquals(Feedback.IN_WORD, Feedback.digitAt(pattern, 1), "Test I IN_WORD");
+        assertEquals(Feedback.NOT_IN_WORD, Feedback.digitAt(pattern, 2), "Test second S NOT_IN_WORD");
+        assertEquals(Feedback.NOT_IN_WORD, Feedback.digitAt(pattern, 3), "Test third S NOT_IN_WORD");
+        pattern = feedback.evaluate(WordCode.encode("SISSY"), WordCode.encode("CHAOS"));
+        assertEquals(Feedback.IN_WORD, Feedback.digitAt(pattern, 0), "Test leftmost S IN_WORD");
+        assertEquals(Feedback.NOT_IN_WORD, Feedback.digitAt(pattern, 2), "Test second S NOT_IN_WORD");
+        assertEquals(Feedback.NOT_IN_WORD, Feedback.digitAt(pattern, 3), "Test third S NOT_IN_WORD");
+    }
+
+    /**
+     * Test evaluate against a reference implementation for every wolfle word and
+     * every valid guess
+     */
+    @Test
+    public void testEvaluateMatchesReference() {
+        WordSet guesses = Lexicon.getDefault().getValidWords();
+        WordSet answers = Lexicon.getDefault().getWolfleWords();
+        Feedback feedback = new Feedback();
+        for (int a = 0; a < answers.size(); a++) {
+            char[] answer = WordCode.decode(answers.getCode(a)).toCharArray();
+            for (int g = 0; g < guesses.size(); g++) {
+                int guessCode = guesses.getCode(g);
+                int expected = referencePattern(WordCode.decode(guessCode).toCharArray(), answer);
+                int actual = feedback.evaluate(guessCode, answers.getCode(a));
+                if (expected != actual) {
+                    fail("Test evaluate " + WordCode.decode(guessCode) + " against "
+                            + new String(answer) + ": expected " + expected + " but was " + actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * computes a feedback pattern the straightforward way: mark letters in
+     * position, then give each other guessed letter the first unused copy of it
+     * in the answer.
+     *
+     * @param guess  is the letters of the guess.
+     * @param answer is the letters of the answer.
+     * @return the feedback pattern.
+     */
+    private static int referencePattern(char[] guess, char[] answer) {
+        int[] digits = new int[guess.length];
+        boolean[] used = new boolean[answer.length];
+        for (int i = 0; i < guess.length; i++) {
+            if (guess[i] == answer[i]) {
+                digits[i] = Feedback.IN_POSITION;
+                used[i] = true;
+            }
+        }
+        for (int i = 0; i < guess.length; i++) {
+            if (digits[i] != Feedback.IN_POSITION) {
+                for (int j = 0; j < answer.length; j++) {
+                    if (!used[j] && guess[i] == answer[j]) {
+                        digits[i] = Feedback.IN_WORD;
+                        used[j] = true;
+                        break;
+                    }
+                }
+            }
+        }
+        int pattern = 0;
+        for (int i = guess.length - 1; i >= 0; i--) {
+            pattern = pattern * 3 + digits[i];
+        }
+        return pattern;
+    }
+
+    /**
+     * Test evaluating six letter words
+     */
+    @Test
+    public void testSixLetters() {
+        assertEquals(729, Feedback.patternCount(6), "Test patternCount for six letters");
+        assertEquals(728, Feedback.allInPosition(6), "Test allInPosition for six letters");
+        Feedback feedback = new Feedback(6);
+        int wolfie = WordCode.encode("WOLFIE", 6);
+        assertEquals(Feedback.allInPosition(6), feedback.evaluate(wolfie, wolfie),
+                "Test evaluate word against itself");
+        int pattern = feedback.evaluate(WordCode.encode("FOLLOW", 6), wolfie);
+        int[] expected = { Feedback.IN_WORD, Feedback.IN_POSITION, Feedback.IN_POSITION,
+            Feedback.NOT_IN_WORD, Feedback.NOT_IN_WORD, Feedback.IN_WORD };
+        for (int col = 0; col < expected.length; col++) {
+            assertEquals(expected[col], Feedback.digitAt(pattern, col), "Test FOLLOW column " + col);
+        }
+        Exception e = assertThrows(IllegalArgumentException.class, () -> new Feedback(9));
+        assertEquals("Invalid word length", e.getMessage(), "Feedback Invalid word length message");
+    }
+
+    /**
+     * Test evaluating eight letter words by their long codes
+     */
+    @Test
+    public void testEightLetters() {
+        Feedback feedback = new Feedback(8);
+        assertEquals(6561, Feedback.patternCount(8), "Test patternCount for eight letters");
+        long elephant = WordCode.encodeLong("ELEPHANT", 8);
+        assertEquals(Feedback.allInPosition(8), feedback.evaluate(elephant, elephant),
+                "Test evaluate word against itself");
+        int pattern = feedback.evaluate(WordCode.encodeLong("ASSESSES", 8), elephant);
+        int[] expected = { Feedback.IN_WORD, Feedback.NOT_IN_WORD, Feedback.NOT_IN_WORD,
+            Feedback.IN_WORD, Feedback.NOT_IN_WORD, Feedback.NOT_IN_WORD, Feedback.IN_WORD,
+            Feedback.NOT_IN_WORD };
+        for (int col = 0; col < expected.length; col++) {
+            assertEquals(expected[col], Feedback.digitAt(pattern, col), "Test ASSESSES column " + col);
+        }
+        Feedback five = new Feedback();
+        assertEquals(five.evaluate(WordCode.encode("EAGLE"), WordCode.encode("ELEGY")),
+                five.evaluate(WordCode.encodeLong("EAGLE", 5), WordCode.encodeLong("ELEGY", 5)),
+                "Test long and int codes give the same pattern");
+    }
+}
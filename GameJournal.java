@@ -0,0 +1,543 @@
+package Project4.src;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class GameJournal implements AutoCloseable {
+
+    /**
+     * the size of every record: session id, timestamp, long word code, type,
+     * row and pattern. A game record keeps its hard mode flag in the row and
+     * its number of rows in the pattern.
+     */
+    public static final int RECORD_BYTES = 28;
+
+    /**
+     * the pattern recorded for a guess that processGuess rejected.
+     */
+    public static final int REJECTED = 0xFFFF;
+
+    /**
+     * the largest grid row a guess record can hold.
+     */
+    public static final int MAX_ROW = 0xFF;
+
+    /**
+     * marks the start of a journal file ("WJNL").
+     */
+    private static final int MAGIC = 0x574A4E4C;
+
+    /**
+     * the version of the file layout.
+     */
+    private static final int VERSION = 3;
+
+    /**
+     * the size of the header: magic and version.
+     */
+    private static final int HEADER_BYTES = 8;
+
+    /**
+     * the record types. A game record holds the secret word's code in the code
+     * field and 1 in the row field if the game is in hard mode.
+     */
+    private static final byte GAME = 1;
+    private static final byte GUESS = 2;
+
+    /**
+     * the path of the journal file.
+     */
+    private final String filePath;
+
+    /**
+     * the channel every batch is appended through.
+     */
+    private final FileChannel channel;
+
+    /**
+     * the longest a record waits before its batch is written, in nanoseconds.
+     */
+    private final long flushNanos;
+
+    /**
+     * the stripes records are appended to. A session's records always go to
+     * the same stripe, so they stay in order, while sessions on different
+     * stripes never wait on each other.
+     */
+    private final Stripe[] stripes;
+
+    /**
+     * set by flush() to write every batch without waiting for them to fill,
+     * and by an append that fills a batch; guarded by this journal's monitor.
+     */
+    private boolean flushRequested;
+
+    /**
+     * set by close(); no more records are accepted.
+     */
+    private volatile boolean closed;
+
+    /**
+     * set if a write failed; every later call fails.
+     */
+    private volatile boolean failed;
+
+    /**
+     * the thread that writes and forces each batch.
+     */
+    private final Thread flusher;
+
+    /**
+     * constructs a GameJournal that appends to an already opened channel.
+     *
+     * @param filePath     is the path of the file.
+     * @param channel      is the channel to append to.
+     * @param batchRecords is the number of records in a full batch.
+     * @param flushMillis  is the longest a record waits to be written.
+     */
+    private GameJournal(String filePath, FileChannel channel, int batchRecords, long flushMillis) {
+        this.filePath = filePath;
+        this.channel = channel;
+        this.flushNanos = flushMillis * 1_000_000;
+        // the power of two at least twice the number of cores
+        this.stripes = new Stripe[Integer.highestOneBit(
+                Runtime.getRuntime().availableProcessors() * 4 - 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(batchRecords);
+        }
+        this.flusher = new Thread(this::flushLoop, "GameJournal flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * opens a journal for appending, creating the file if it does not exist.
+     * Records are collected into batches that a background thread writes and
+     * forces to disk together (group commit): the batches are written when one
+     * holds batchRecords records or every flushMillis, whichever comes first.
+     * Each session appends to one of several batches, chosen by its id, with
+     * at least two batches per core; appending a record only copies it into memory
+     * under that batch's lock, so it does not wait for the disk unless the disk
+     * has fallen a whole batch behind, and sessions on different batches do not
+     * wait on each other at all.
+     *
+     * @param filePath     is the path of the journal file.
+     * @param batchRecords is the number of records in a full batch.
+     * @param flushMillis  is the longest a record waits to be written.
+     * @return the open journal.
+     * @throws IllegalArgumentException if the path is null, the batch size or
+     *                                  delay is not positive, or the file cannot
+     *                                  be written or is not a journal.
+     */
+    public static GameJournal open(String filePath, int batchRecords, long flushMillis) {
+        if (filePath == null) {
+            throw new IllegalArgumentException("Null file path");
+        }
+        if (batchRecords < 1 || flushMillis < 1) {
+            throw new IllegalArgumentException("Invalid batch");
+        }
+        if (new File(filePath).length() > 0) {
+            checkHeader(filePath);
+        }
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to write file: " + filePath);
+        }
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                header.putInt(MAGIC).putInt(VERSION).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // the header write has already failed
+            }
+            throw new IllegalArgumentException("Unable to write file: " + filePath);
+        }
+        return new GameJournal(filePath, channel, batchRecords, flushMillis);
+    }
+
+    /**
+     * records the start of a game.
+     *
+     * @param sessionId is the id of the game's session.
+     * @param game      is the game.
+     * @throws IllegalArgumentException if the journal is closed or a write has
+     *                                  failed.
+     */
+    public void recordGame(long sessionId, Wolfle game) {
+        append(sessionId, WordCode.encodeLong(game.getSecretWord(), game.getCols()), GAME,
+                game.isHardMode() ? 1 : 0, game.getRows());
+    }
+
+    /**
+     * records a call to processGuess.
+     *
+     * @param sessionId is the id of the game's session.
+     * @param row       is the grid row of the guess.
+     * @param guessCode is the long WordCode of the guess.
+     * @param pattern   is the feedback pattern, or REJECTED if processGuess
+     *                  returned false.
+     * @throws IllegalArgumentException if the row is above MAX_ROW, the journal
+     *                                  is closed or a write has failed.
+     */
+    public void recordGuess(long sessionId, int row, long guessCode, int pattern) {
+        if (row < 0 || row > MAX_ROW) {
+            throw new IllegalArgumentException("Invalid row");
+        }
+        append(sessionId, guessCode, GUESS, row, pattern);
+    }
+
+    /**
+     * copies one record into the active batch of the session's stripe, waiting
+     * only if both of the stripe's batches are full.
+     *
+     * @param sessionId is the session id.
+     * @param code      is the long word code.
+     * @param type      is the record type.
+     * @param row       is the row.
+     * @param pattern   is the pattern.
+     */
+    private void append(long sessionId, long code, byte type, int row, int pattern) {
+        // session ids are handed out in sequence, so the low bits spread them
+        Stripe stripe = stripes[(int) sessionId & (stripes.length - 1)];
+        boolean full;
+        synchronized (stripe) {
+            while (!stripe.active.hasRemaining()) {
+                checkOpen();
+                waitUninterruptibly(stripe);
+            }
+            checkOpen();
+            ByteBuffer active = stripe.active;
+            active.putLong(sessionId);
+            active.putLong(System.currentTimeMillis());
+            active.putLong(code);
+            active.put(type);
+            active.put((byte) row);
+            active.putShort((short) pattern);
+            stripe.appended++;
+            full = !active.hasRemaining();
+        }
+        if (full) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * wakes the flusher to write every batch now.
+     */
+    private synchronized void requestFlush() {
+        flushRequested = true;
+        notifyAll();
+    }
+
+    /**
+     * waits until every record appended so far is on disk.
+     *
+     * @throws IllegalArgumentException if a write has failed.
+     */
+    public void flush() {
+        long[] targets = new long[stripes.length];
+        for (int i = 0; i < stripes.length; i++) {
+            synchronized (stripes[i]) {
+                targets[i] = stripes[i].appended;
+            }
+        }
+        requestFlush();
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = stripes[i];
+            synchronized (stripe) {
+                while (stripe.durable < targets[i]) {
+                    if (failed) {
+                        throw new IllegalArgumentException("Unable to write file: " + filePath);
+                    }
+                    waitUninterruptibly(stripe);
+                }
+            }
+        }
+    }
+
+    /**
+     * writes every record appended so far and closes the file.
+     *
+     * @throws IllegalArgumentException if a write has failed.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notifyAll();
+        }
+        boolean interrupted = false;
+        while (flusher.isAlive()) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            failed = true;
+        }
+        if (failed) {
+            throw new IllegalArgumentException("Unable to write file: " + filePath);
+        }
+    }
+
+    /**
+     * throws if no more records can be appended.
+     */
+    private void checkOpen() {
+        if (failed) {
+            throw new IllegalArgumentException("Unable to write file: " + filePath);
+        }
+        if (closed) {
+            throw new IllegalArgumentException("Journal closed");
+        }
+    }
+
+    /**
+     * waits on a monitor the caller holds, keeping the interrupt for the
+     * caller.
+     *
+     * @param monitor is the monitor to wait on.
+     */
+    private static void waitUninterruptibly(Object monitor) {
+        try {
+            monitor.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * the flusher thread: every flushMillis, or sooner if a batch fills or a
+     * flush is asked for, takes the active batch of every stripe that has
+     * records, writes them all and forces them to disk once.
+     */
+    private void flushLoop() {
+        ByteBuffer[] batches = new ByteBuffer[stripes.length];
+        long[] targets = new long[stripes.length];
+        while (true) {
+            synchronized (this) {
+                long deadline = System.nanoTime() + flushNanos;
+                long left = flushNanos;
+                while (!closed && !flushRequested && left > 0) {
+                    try {
+                        wait(left / 1_000_000 + 1);
+                    } catch (InterruptedException e) {
+                        // only close() stops the flusher
+                    }
+                    left = deadline - System.nanoTime();
+                }
+                flushRequested = false;
+            }
+            // an append to a stripe after it is swept below sees closed and
+            // fails, so one more sweep after close() catches every record
+            boolean last = closed;
+
+            for (int i = 0; i < stripes.length; i++) {
+                Stripe stripe = stripes[i];
+                synchronized (stripe) {
+                    batches[i] = null;
+                    if (stripe.active.position() == 0) {
+                        stripe.durable = stripe.appended;
+                        stripe.notifyAll();
+                    } else {
+                        batches[i] = stripe.active;
+                        stripe.active = stripe.spare;
+                        stripe.spare = null;
+                        targets[i] = stripe.appended;
+                        stripe.notifyAll();
+                    }
+                }
+            }
+
+            boolean ok = true;
+            try {
+                boolean written = false;
+                for (int i = 0; i < stripes.length; i++) {
+                    ByteBuffer batch = batches[i];
+                    if (batch != null) {
+                        batch.flip();
+                        while (batch.hasRemaining()) {
+                            channel.write(batch);
+                        }
+                        written = true;
+                    }
+                }
+                if (written) {
+                    channel.force(false);
+                }
+            } catch (IOException e) {
+                ok = false;
+                failed = true;
+            }
+
+            for (int i = 0; i < stripes.length; i++) {
+                Stripe stripe = stripes[i];
+                synchronized (stripe) {
+                    if (batches[i] != null) {
+                        batches[i].clear();
+                        stripe.spare = batches[i];
+                        if (ok) {
+                            stripe.durable = targets[i];
+                        }
+                    }
+                    stripe.notifyAll();
+                }
+            }
+            if (!ok || last) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * rebuilds every game recorded in a journal by replaying its guesses
+     * against the lexicon. A record cut short at the end of the file, as left
+     * by a crash during a write, is ignored. The replay itself is not counted
+     * in the default WolfleMetrics; guesses made in the returned games are.
+     *
+     * @param filePath is the path of the journal file.
+     * @param lexicon  is the lexicon the games were played with.
+     * @return the games by session id, in the order their first records were
+     *         written.
+     * @throws IllegalArgumentException if the file cannot be read, is not a
+     *                                  journal, or does not match the lexicon.
+     */
+    public static Map<Long, Wolfle> replay(String filePath, Lexicon lexicon) {
+        if (filePath == null || lexicon == null) {
+            throw new IllegalArgumentException("Null argument");
+        }
+        checkHeader(filePath);
+        Map<Long, Wolfle> games = new LinkedHashMap<>();
+        WolfleMetrics metrics = new WolfleMetrics();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_BYTES * 4096);
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            channel.position(HEADER_BYTES);
+            while (channel.read(buffer) > 0 || buffer.position() >= RECORD_BYTES) {
+                buffer.flip();
+                while (buffer.remaining() >= RECORD_BYTES) {
+                    replayRecord(buffer, games, lexicon, metrics);
+                }
+                buffer.compact();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to access file: " + filePath);
+        }
+        for (Wolfle game : games.values()) {
+            game.setMetrics(WolfleMetrics.getDefault());
+        }
+        return games;
+    }
+
+    /**
+     * applies the record at the buffer's position to the games.
+     *
+     * @param buffer  is the buffer holding the record.
+     * @param games   is the games replayed so far.
+     * @param lexicon is the lexicon the games were played with.
+     * @param metrics is the metrics the replayed games record into.
+     */
+    private static void replayRecord(ByteBuffer buffer, Map<Long, Wolfle> games, Lexicon lexicon,
+            WolfleMetrics metrics) {
+        long sessionId = buffer.getLong();
+        buffer.getLong();
+        long code = buffer.getLong();
+        byte type = buffer.get();
+        int row = buffer.get() & 0xFF;
+        int pattern = buffer.getShort() & 0xFFFF;
+
+        if (type == GAME) {
+            if (!lexicon.isWolfleCode(code)) {
+                throw new IllegalArgumentException("Journal does not match lexicon");
+            }
+            games.put(sessionId, new Wolfle(lexicon, pattern,
+                    WordCode.decodeLong(code, lexicon.getWordLength()), row == 1, metrics));
+        } else if (type == GUESS && pattern != REJECTED) {
+            Wolfle game = games.get(sessionId);
+            if (game == null || !game.processGuess(WordCode.decodeLong(code, game.getCols()), row)
+                    || game.evaluatePattern(code, WordCode.encodeLong(game.getSecretWord(),
+                            game.getCols())) != pattern) {
+                throw new IllegalArgumentException("Journal does not match lexicon");
+            }
+        }
+    }
+
+    /**
+     * checks that a file starts with a journal header.
+     *
+     * @param filePath is the path of the file.
+     * @throws IllegalArgumentException if the file cannot be read or is not a
+     *                                  journal.
+     */
+    private static void checkHeader(String filePath) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is full or the file ends
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to access file: " + filePath);
+        }
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC
+                || header.getInt() != VERSION) {
+            throw new IllegalArgumentException("Not a game journal: " + filePath);
+        }
+    }
+
+    /**
+     * the batches of one group of sessions; every field is guarded by the
+     * stripe's monitor.
+     */
+    private static final class Stripe {
+
+        /**
+         * the buffer records are appended to, and the buffer the flusher hands
+         * back once it has written it, or null while it is being written.
+         */
+        private ByteBuffer active;
+        private ByteBuffer spare;
+
+        /**
+         * the number of records appended, and the number known to be on disk.
+         */
+        private long appended;
+        private long durable;
+
+        /**
+         * constructs a stripe with two empty batches.
+         *
+         * @param batchRecords is the number of records in a full batch.
+         */
+        private Stripe(int batchRecords) {
+            this.active = ByteBuffer.allocateDirect(batchRecords * RECORD_BYTES);
+            this.spare = ByteBuffer.allocateDirect(batchRecords * RECORD_BYTES);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import Project4.src.GameJournal;
+import Project4.src.GameSessionManager;
+import Project4.src.Letter;
+import Project4.src.Lexicon;
+import Project4.src.MetricsSnapshot;
+import Project4.src.Wolfle;
+import Project4.src.WolfleMetrics;
+
+/**
+ * Tests GameJournal class
+ *
+ * @author Roshni Desai
+ */
+public class GameJournalTest {
+
+    /** Directory for journal files */
+    @TempDir
+    File dir;
+
+    /**
+     * Test replaying a journal rebuilds the games played through a manager
+     */
+    @Test
+    public void testReplay() {
+        String path = new File(dir, "journal.bin").getPath();
+        long won;
+        long playing;
+        try (GameJournal journal = GameJournal.open(path, 4, 5)) {
+            GameSessionManager manager = new GameSessionManager(Lexicon.getDefault(), journal);
+            won = manager.create("ELEGY");
+            playing = manager.create("SISSY");
+            manager.guess(won, "ALBUM");
+            manager.guess(won, "NOTIT");
+            manager.guess(playing, "CHAOS");
+            manager.guess(won, "ELEGY");
+            journal.flush();
+            assertEquals(GameJournal.RECORD_BYTES * 6 + 8, new File(path).length(),
+                    "Test journal size after flush");
+        }
+
+        Map<Long, Wolfle> games = GameJournal.replay(path, Lexicon.getDefault());
+        assertEquals(2, games.size(), "Test games replayed");
+        Wolfle game = games.get(won);
+        assertEquals("ELEGY", game.getSecretWord(), "Test replayed secret word");
+        assertTrue(game.isGameOverCorrectGuess(), "Test replayed win");
+        assertEquals('A', game.getGridLetter(0, 0), "Test replayed first row");
+        assertEquals('E', game.getGridLetter(1, 0), "Test rejected guess skipped");
+        assertEquals(Letter.Status.IN_POSITION, game.getLetterStatus('L' - 'A'),
+                "Test replayed alphabet");
+        game = games.get(playing);
+        assertEquals(Letter.Status.IN_WORD, game.getGridLetterStatus(0, 4),
+                "Test replayed second game");
+        assertFalse(game.isGameOverCorrectGuess(), "Test second game still playing");
+    }
+
+    /**
+     * Test a journal is appended to when reopened and a torn record is ignored
+     */
+    @Test
+    public void testReopenAndTornRecord() throws IOException {
+        String path = new File(dir, "journal.bin").getPath();
+        try (GameJournal journal = GameJournal.open(path, 100, 1000)) {
+            new GameSessionManager(Lexicon.getDefault(), journal).create("ELEGY");
+        }
+        try (GameJournal journal = GameJournal.open(path, 100, 1000)) {
+            new GameSessionManager(Lexicon.getDefault(), journal).create("CHAOS");
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+            file.setLength(file.length() + GameJournal.RECORD_BYTES / 2);
+        }
+        // both managers numbered their first session 1, so the second replaces the first
+        Map<Long, Wolfle> games = GameJournal.replay(path, Lexicon.getDefault());
+        assertEquals(1, games.size(), "Test sessions replayed");
+        assertEquals("CHAOS", games.get(1L).getSecretWord(), "Test appended record replayed");
+    }
+
+    /**
+     * Test sessions journaled from many threads at once, through batches small
+     * enough to fill while the flusher writes, all replay in order
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    public void testConcurrentSessions() throws InterruptedException {
+        String path = new File(dir, "journal.bin").getPath();
+        String[] guesses = { "EAGLE", "NOTIT", "RANGE", "GRUNT" };
+        int threads = 8;
+        int sessionsPerThread = 50;
+        long[][] ids = new long[threads][sessionsPerThread];
+        try (GameJournal journal = GameJournal.open(path, 4, 1)) {
+            GameSessionManager manager = new GameSessionManager(Lexicon.getDefault(), journal);
+            Thread[] players = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                long[] mine = ids[t];
+                players[t] = new Thread(() -> {
+                    for (int i = 0; i < sessionsPerThread; i++) {
+                        mine[i] = manager.create("ELEGY");
+                        for (String guess : guesses) {
+                            manager.guess(mine[i], guess);
+                        }
+                    }
+                });
+                players[t].start();
+            }
+            for (Thread player : players) {
+                player.join();
+            }
+            journal.flush();
+            assertEquals(8 + (long) GameJournal.RECORD_BYTES * threads * sessionsPerThread
+                    * (1 + guesses.length), new File(path).length(), "Test every record written");
+        }
+
+        Map<Long, Wolfle> games = GameJournal.replay(path, Lexicon.getDefault());
+        assertEquals(threads * sessionsPerThread, games.size(), "Test every session replayed");
+        for (long[] mine : ids) {
+            for (long id : mine) {
+                Wolfle game = games.get(id);
+                assertEquals('E', game.getGridLetter(0, 0), "Test first guess replayed");
+                assertEquals('R', game.getGridLetter(1, 0), "Test rejected guess skipped");
+                assertEquals('G', game.getGridLetter(2, 0), "Test last guess replayed");
+            }
+        }
+    }
+
+    /**
+     * Test replaying a journal does not count as live games in the default
+     * metrics, but guesses in the replayed games do
+     */
+    @Test
+    public void testReplayMetrics() {
+        String path = new File(dir, "journal.bin").getPath();
+        long session;
+        try (GameJournal journal = GameJournal.open(path, 4, 5)) {
+            GameSessionManager manager = new GameSessionManager(Lexicon.getDefault(), journal);
+            session = manager.create("ELEGY");
+            manager.guess(session, "ALBUM");
+            manager.guess(session, "NOTIT");
+            manager.guess(manager.create("SISSY"), "CHAOS");
+        }
+
+        MetricsSnapshot before = WolfleMetrics.getDefault().snapshot();
+        Map<Long, Wolfle> games = GameJournal.replay(path, Lexicon.getDefault());
+        MetricsSnapshot after = WolfleMetrics.getDefault().snapshot();
+        assertEquals(2, games.size(), "Test games replayed");
+        assertEquals(before.getGamesCreated(), after.getGamesCreated(),
+                "Test replay creates no live games");
+        assertEquals(before.getGuessesProcessed(), after.getGuessesProcessed(),
+                "Test replay processes no live guesses");
+        assertEquals(before.getInvalidGuesses(), after.getInvalidGuesses(),
+                "Test replay rejects no live guesses");
+        assertEquals(before.getWins(), after.getWins(), "Test replay wins no live games");
+        assertEquals(before.getProcessGuessCount(), after.getProcessGuessCount(),
+                "Test replay records no live latency");
+
+        assertTrue(games.get(session).processGuess("ELEGY", 1), "Test replayed game playable");
+        assertEquals(after.getGuessesProcessed() + 1,
+                WolfleMetrics.getDefault().getGuessesProcessed(), "Test guess after replay is live");
+    }
+
+    /**
+     * Test the GameJournal methods with invalid values
+     */
+    @Test
+    public void testExceptions() throws IOException {
+        String path = new File(dir, "journal.bin").getPath();
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> GameJournal.open(null, 1, 1));
+        assertEquals("Null file path", e.getMessage(), "open Null file path message");
+        e = assertThrows(IllegalArgumentException.class, () -> GameJournal.open(path, 0, 1));
+        assertEquals("Invalid batch", e.getMessage(), "open Invalid batch message");
+
+        GameJournal journal = GameJournal.open(path, 1, 1);
+        journal.close();
+        e = assertThrows(IllegalArgumentException.class,
+                () -> journal.recordGuess(1, 0, 0, 0));
+        assertEquals("Journal closed", e.getMessage(), "recordGuess Journal closed message");
+
+        File other = new File(dir, "other.txt");
+        try (RandomAccessFile file = new RandomAccessFile(other, "rw")) {
+            file.writeBytes("ELEGY\nCHAOS\n");
+        }
+        e = assertThrows(IllegalArgumentException.class,
+                () -> GameJournal.replay(other.getPath(), Lexicon.getDefault()));
+        assertEquals("Not a game journal: " + other.getPath(), e.getMessage(),
+                "replay Not a game journal message");
+    }
+
+    /**
+     * Test replaying games of eight letter words, whose codes need a long
+     */
+    @Test
+    public void testEightLetters() {
+        String[] words = { "ELEPHANT", "ASSESSES", "SESSIONS" };
+        Lexicon lexicon = new Lexicon(words, words, 8);
+        String path = new File(dir, "journal.bin").getPath();
+        try (GameJournal journal = GameJournal.open(path, 4, 5)) {
+            GameSessionManager manager = new GameSessionManager(lexicon, journal);
+            long id = manager.create("ELEPHANT");
+            manager.guess(id, "SESSIONS");
+            manager.guess(id, "ELEPHANT");
+        }
+        Map<Long, Wolfle> games = GameJournal.replay(path, lexicon);
+        Wolfle game = games.values().iterator().next();
+        assertEquals("ELEPHANT", game.getSecretWord(), "Test replayed secret word");
+        assertEquals('S', game.getGridLetter(0, 0), "Test replayed first row");
+        assertTrue(game.isGameOverCorrectGuess(), "Test replayed win");
+    }
+}
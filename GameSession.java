@@ -0,0 +1,139 @@
+package Project4.src;
+
+public final class GameSession {
+
+    /**
+     * the id the session is registered under.
+     */
+    private final long id;
+
+    /**
+     * the game; only touched while holding this session's lock.
+     */
+    private final Wolfle game;
+
+    /**
+     * the journal every guess is recorded to, or null.
+     */
+    private final GameJournal journal;
+
+    /**
+     * the grid row the next valid guess is recorded in.
+     */
+    private int row;
+
+    /**
+     * the System.nanoTime of the last time the session was used.
+     */
+    private volatile long lastAccess;
+
+    /**
+     * constructs a GameSession for a new game.
+     *
+     * @param id      is the id of the session.
+     * @param game    is the game to play.
+     * @param journal is the journal to record guesses to, or null.
+     */
+    GameSession(long id, Wolfle game, GameJournal journal) {
+        this.id = id;
+        this.game = game;
+        this.journal = journal;
+        this.row = 0;
+        this.lastAccess = System.nanoTime();
+    }
+
+    /**
+     * returns the id of this session.
+     *
+     * @return the session id.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * processes a guess in the next row of the game. Guesses to one session are
+     * applied one at a time; guesses to different sessions never wait on each
+     * other.
+     *
+     * @param guess is the guessed word.
+     * @return true if the guess is valid, false otherwise, as for
+     *         Wolfle.processGuess.
+     * @throws IllegalArgumentException if the guess is null or the game is over.
+     */
+    public synchronized boolean guess(String guess) {
+        lastAccess = System.nanoTime();
+        if (isGameOver()) {
+            throw new IllegalArgumentException("Game over");
+        }
+        boolean valid = game.processGuess(guess, row);
+        if (journal != null) {
+            int pattern = valid ? game.getLastPattern() : GameJournal.REJECTED;
+            journal.recordGuess(id, row, WordCode.encodeLong(guess, game.getCols()), pattern);
+        }
+        if (valid) {
+            row++;
+        }
+        return valid;
+    }
+
+    /**
+     * returns the number of valid guesses made so far.
+     *
+     * @return the grid row of the next guess.
+     */
+    public synchronized int getRow() {
+        return row;
+    }
+
+    /**
+     * checks if the game is over, either won or out of guesses.
+     *
+     * @return true if the game is over, false otherwise.
+     */
+    public synchronized boolean isGameOver() {
+        return game.isGameOverCorrectGuess() || game.isGameOverNoMoreGuesses();
+    }
+
+    /**
+     * checks if the game was won.
+     *
+     * @return true if the secret word was guessed, false otherwise.
+     */
+    public synchronized boolean isGameOverCorrectGuess() {
+        return game.isGameOverCorrectGuess();
+    }
+
+    /**
+     * returns the status of a letter in the alphabet by its index.
+     *
+     * @param index is the index of the letter in the alphabet.
+     * @return the status of the letter.
+     * @throws IllegalArgumentException if the index is out of bounds.
+     */
+    public synchronized Letter.Status getLetterStatus(int index) {
+        return game.getLetterStatus(index);
+    }
+
+    /**
+     * returns the status of a letter in the grid.
+     *
+     * @param row is the row of the letter in the grid.
+     * @param col is the column of the letter in the grid.
+     * @return the status of the letter.
+     * @throws IllegalArgumentException if the row or column is out of bounds.
+     */
+    public synchronized Letter.Status getGridLetterStatus(int row, int col) {
+        return game.getGridLetterStatus(row, col);
+    }
+
+    /**
+     * returns the System.nanoTime of the last guess, or of creation if there
+     * has been no guess.
+     *
+     * @return the time of last access.
+     */
+    long getLastAccess() {
+        return lastAccess;
+    }
+}
@@ -0,0 +1,156 @@
+package Project4.src;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class GameSessionManager {
+
+    /**
+     * the live sessions by id. The map is internally striped, and each session
+     * has its own lock, so there is no lock shared by every player.
+     */
+    private final ConcurrentHashMap<Long, GameSession> sessions;
+
+    /**
+     * the source of session ids.
+     */
+    private final AtomicLong nextId;
+
+    /**
+     * the lexicon shared by every session.
+     */
+    private final Lexicon lexicon;
+
+    /**
+     * the metrics sessions are counted in.
+     */
+    private final WolfleMetrics metrics;
+
+    /**
+     * the journal every game and guess is recorded to, or null.
+     */
+    private final GameJournal journal;
+
+    /**
+     * constructs a GameSessionManager whose games all share the given lexicon.
+     * The shared WolfleMetrics are registered with JMX so a running server can
+     * be watched.
+     *
+     * @param lexicon is the lexicon for every game.
+     * @throws IllegalArgumentException if the lexicon is null.
+     */
+    public GameSessionManager(Lexicon lexicon) {
+        this(lexicon, null);
+    }
+
+    /**
+     * constructs a GameSessionManager whose games all share the given lexicon
+     * and are recorded to the given journal. The manager does not close the
+     * journal.
+     *
+     * @param lexicon is the lexicon for every game.
+     * @param journal is the journal to record every game and guess to, or null
+     *                for none.
+     * @throws IllegalArgumentException if the lexicon is null.
+     */
+    public GameSessionManager(Lexicon lexicon, GameJournal journal) {
+        if (lexicon == null) {
+            throw new IllegalArgumentException("Null lexicon");
+        }
+        this.lexicon = lexicon;
+        this.sessions = new ConcurrentHashMap<>();
+        this.nextId = new AtomicLong();
+        this.journal = journal;
+        this.metrics = WolfleMetrics.getDefault();
+        WolfleMetrics.registerMBean();
+    }
+
+    /**
+     * creates a session for a new game.
+     *
+     * @param secretWordForTesting is the secret word, or empty for a random one.
+     * @return the id of the new session.
+     * @throws IllegalArgumentException if the secret word is invalid.
+     */
+    public long create(String secretWordForTesting) {
+        Wolfle game = new Wolfle(lexicon, secretWordForTesting);
+        long id = nextId.incrementAndGet();
+        if (journal != null) {
+            journal.recordGame(id, game);
+        }
+        sessions.put(id, new GameSession(id, game, journal));
+        metrics.sessionCreated();
+        return id;
+    }
+
+    /**
+     * returns the session with the given id.
+     *
+     * @param id is the id of the session.
+     * @return the session, or null if there is no such session.
+     */
+    public GameSession get(long id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * processes a guess in the next row of a session's game.
+     *
+     * @param id    is the id of the session.
+     * @param guess is the guessed word.
+     * @return true if the guess is valid, false otherwise.
+     * @throws IllegalArgumentException if there is no such session, the guess is
+     *                                  null, or the game is over.
+     */
+    public boolean guess(long id, String guess) {
+        GameSession session = sessions.get(id);
+        if (session == null) {
+            throw new IllegalArgumentException("Invalid session");
+        }
+        return session.guess(guess);
+    }
+
+    /**
+     * removes a session.
+     *
+     * @param id is the id of the session.
+     * @return true if the session existed, false otherwise.
+     */
+    public boolean remove(long id) {
+        if (sessions.remove(id) == null) {
+            return false;
+        }
+        metrics.sessionsRemoved(1);
+        return true;
+    }
+
+    /**
+     * removes every session that has not been used for at least the given time.
+     *
+     * @param maxIdleNanos is the longest a session may sit unused.
+     * @return the number of sessions removed.
+     */
+    public int expireIdle(long maxIdleNanos) {
+        long now = System.nanoTime();
+        int removed = 0;
+        Iterator<GameSession> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().getLastAccess() >= maxIdleNanos) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        metrics.sessionsRemoved(removed);
+        return removed;
+    }
+
+    /**
+     * returns the number of live sessions.
+     *
+     * @return the number of sessions.
+     */
+    public int size() {
+        return sessions.size();
+    }
+}
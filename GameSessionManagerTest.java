@@ -0,0 +1,111 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import Project4.src.GameSession;
+import Project4.src.GameSessionManager;
+import Project4.src.Letter;
+import Project4.src.Lexicon;
+
+/**
+ * Tests GameSessionManager and GameSession classes
+ *
+ * @author Roshni Desai
+ */
+public class GameSessionManagerTest {
+
+    /** Manager for testing */
+    private GameSessionManager manager;
+
+    /**
+     * Sets up field for testing
+     */
+    @BeforeEach
+    public void setUp() {
+        manager = new GameSessionManager(Lexicon.getDefault());
+    }
+
+    /**
+     * Test guesses advance the session's row like processGuess
+     */
+    @Test
+    public void testGuess() {
+        long id = manager.create("ELEGY");
+        GameSession session = manager.get(id);
+        assertEquals(id, session.getId(), "Test session id");
+        assertFalse(manager.guess(id, "NOTIT"), "Test invalid guess");
+        assertEquals(0, session.getRow(), "Test row unchanged after invalid guess");
+        assertTrue(manager.guess(id, "EAGLE"), "Test valid guess");
+        assertEquals(1, session.getRow(), "Test row after valid guess");
+        assertEquals(Letter.Status.IN_POSITION, session.getGridLetterStatus(0, 0),
+                "Test grid status after guess");
+        assertEquals(Letter.Status.NOT_IN_WORD, session.getLetterStatus(0),
+                "Test letter status after guess");
+        assertTrue(manager.guess(id, "ELEGY"), "Test winning guess");
+        assertTrue(session.isGameOver(), "Test game over after win");
+        assertTrue(session.isGameOverCorrectGuess(), "Test game won");
+    }
+
+    /**
+     * Test removing and expiring sessions
+     */
+    @Test
+    public void testRemoveAndExpire() {
+        long first = manager.create("");
+        manager.create("");
+        assertEquals(2, manager.size(), "Test size after create");
+        assertTrue(manager.remove(first), "Test remove existing session");
+        assertFalse(manager.remove(first), "Test remove missing session");
+        assertNull(manager.get(first), "Test get removed session");
+        assertEquals(0, manager.expireIdle(Long.MAX_VALUE), "Test nothing expires");
+        assertEquals(1, manager.expireIdle(0), "Test idle session expires");
+        assertEquals(0, manager.size(), "Test size after expire");
+    }
+
+    /**
+     * Test concurrent guesses to one session each land in their own row
+     *
+     * @throws InterruptedException if a thread is interrupted
+     */
+    @Test
+    public void testConcurrentGuessesToOneSession() throws InterruptedException {
+        long id = manager.create("ELEGY");
+        AtomicInteger accepted = new AtomicInteger();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10; i++) {
+                    try {
+                        if (manager.guess(id, "EAGLE")) {
+                            accepted.incrementAndGet();
+                        }
+                    } catch (IllegalArgumentException e) {
+                        assertEquals("Game over", e.getMessage(), "Test only game over is thrown");
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(6, accepted.get(), "Test exactly one guess accepted per row");
+        assertTrue(manager.get(id).isGameOver(), "Test game over after every row");
+    }
+
+    /**
+     * Test the GameSessionManager methods with invalid values
+     */
+    @Test
+    public void testExceptions() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> new GameSessionManager(null));
+        assertEquals("Null lexicon", e.getMessage(), "GameSessionManager Null lexicon message");
+        e = assertThrows(IllegalArgumentException.class, () -> manager.guess(42, "EAGLE"));
+        assertEquals("Invalid session", e.getMessage(), "guess Invalid session message");
+        e = assertThrows(IllegalArgumentException.class, () -> manager.create("xxx"));
+        assertEquals("Invalid secret word", e.getMessage(), "create Invalid secret word message");
+    }
+}
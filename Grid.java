@@ -1,15 +1,53 @@
 package Project4.src;
 
+import java.util.Arrays;
+
 public class Grid {
 
+    /**
+     * the number of bits used to store each cell.
+     */
+    private static final int BITS_PER_CELL = 8;
+
+    /**
+     * the number of cells stored in each long.
+     */
+    private static final int CELLS_PER_LONG = Long.SIZE / BITS_PER_CELL;
+
+    /**
+     * mask that selects the letter part of a cell: 0 for '_', 1 to 26 for A-Z.
+     */
+    private static final int LETTER_MASK = 0x1F;
+
+    /**
+     * the position of the status ordinal within a cell.
+     */
+    private static final int STATUS_SHIFT = 5;
+
+    /**
+     * mask that selects a whole cell once it is shifted down.
+     */
+    private static final long CELL_MASK = (1L << BITS_PER_CELL) - 1;
+
+    /**
+     * the statuses in ordinal order, so a stored ordinal can be turned back into
+     * a Status without allocating.
+     */
+    private static final Letter.Status[] STATUSES = Letter.Status.values();
+
     private int rows;
     private int cols;
-    private Letter[][] grid;
+
+    /**
+     * every cell packed into 8 bits, row by row: the letter in the low 5 bits
+     * and the Status ordinal above it. A cell of 0 is '_' with status
+     * NOT_GUESSED, so a new grid is all zeros.
+     */
+    private long[] cells;
 
     /**
      * constructs a Grid object with the specified number of rows and columns.
-     * Initializes each cell with a default Letter object containing an underscore
-     * and status NOT_GUESSED.
+     * Initializes each cell to an underscore with status NOT_GUESSED.
      *
      * @param rows is the number of rows in the grid.
      * @param cols is the number of columns in the grid.
@@ -25,14 +63,7 @@ public class Grid {
 
         this.rows = rows;
         this.cols = cols;
-        grid = new Letter[rows][cols];
-
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                grid[i][j] = new Letter('_');
-                grid[i][j].setStatus(Letter.Status.NOT_GUESSED);
-            }
-        }
+        cells = new long[(rows * cols + CELLS_PER_LONG - 1) / CELLS_PER_LONG];
     }
 
     /**
@@ -54,14 +85,41 @@ public class Grid {
     }
 
     /**
-     * returns the 2D array representing the grid of Letters.
+     * returns a 2D array of Letters for the grid. The array is a copy; changing
+     * it does not change this Grid.
      *
      * @return the grid of Letters.
      */
     public Letter[][] getGrid() {
+        Letter[][] grid = new Letter[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                grid[i][j] = new Letter(letter(i, j));
+                grid[i][j].setStatus(status(i, j));
+            }
+        }
         return grid;
     }
 
+    /**
+     * returns the shared Tile for the cell at the specified row and column. No
+     * Letter or array is created, so this is the one to use when drawing.
+     *
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     * @return the Tile with the letter and status of the cell.
+     * @throws IllegalArgumentException if the row or col is out of bounds.
+     */
+    public Tile getTile(int row, int col) {
+        if (row < 0 || row >= rows) {
+            throw new IllegalArgumentException("Invalid row");
+        }
+        if (col < 0 || col >= cols) {
+            throw new IllegalArgumentException("Invalid col");
+        }
+        return Tile.of(letter(row, col), status(row, col));
+    }
+
     /**
      * returns the character of the Letter at the specified row and column.
      *
@@ -77,7 +135,7 @@ public class Grid {
         if (col < 0 || col >= cols) {
             throw new IllegalArgumentException("Invalid col");
         }
-        return grid[row][col].getLetter();
+        return letter(row, col);
     }
 
     /**
@@ -95,7 +153,7 @@ public class Grid {
         if (col < 0 || col >= cols) {
             throw new IllegalArgumentException("Invalid col");
         }
-        return grid[row][col].getStatus();
+        return status(row, col);
     }
 
     /**
@@ -106,7 +164,9 @@ public class Grid {
      * @param col    is the column of the Letter to update.
      * @param letter is the new letter to assign to the Letter.
      * @param status is the new status to assign to the Letter.
-     * @throws IllegalArgumentException if the row or col is out of bounds.
+     * @throws IllegalArgumentException if the row or col is out of bounds, the
+     *                                  letter is not A-Z or '_', or the status
+     *                                  is null.
      */
     public void updateLetter(int row, int col, char letter, Letter.Status status) {
         if (row < 0 || row >= rows) {
@@ -115,8 +175,57 @@ public class Grid {
         if (col < 0 || col >= cols) {
             throw new IllegalArgumentException("Invalid col");
         }
-        grid[row][col].setLetter(letter);
-        grid[row][col].setStatus(status);
+        int letterBits = 0;
+        if (letter >= Letter.FIRST_LETTER && letter <= Letter.LAST_LETTER) {
+            letterBits = letter - Letter.FIRST_LETTER + 1;
+        } else if (letter != '_') {
+            throw new IllegalArgumentException("Invalid letter");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Invalid status");
+        }
+
+        int cell = row * cols + col;
+        int shift = (cell % CELLS_PER_LONG) * BITS_PER_CELL;
+        long bits = letterBits | (status.ordinal() << STATUS_SHIFT);
+        cells[cell / CELLS_PER_LONG] = (cells[cell / CELLS_PER_LONG] & ~(CELL_MASK << shift))
+                | (bits << shift);
+    }
+
+    /**
+     * reads the packed bits of a cell.
+     *
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     * @return the 8 bits of the cell.
+     */
+    private int cell(int row, int col) {
+        int cell = row * cols + col;
+        int shift = (cell % CELLS_PER_LONG) * BITS_PER_CELL;
+        return (int) ((cells[cell / CELLS_PER_LONG] >>> shift) & CELL_MASK);
+    }
+
+    /**
+     * reads the character of a cell.
+     *
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     * @return the character, A-Z or '_'.
+     */
+    private char letter(int row, int col) {
+        int letterBits = cell(row, col) & LETTER_MASK;
+        return letterBits == 0 ? '_' : (char) (Letter.FIRST_LETTER + letterBits - 1);
+    }
+
+    /**
+     * reads the status of a cell.
+     *
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     * @return the status.
+     */
+    private Letter.Status status(int row, int col) {
+        return STATUSES[cell(row, col) >>> STATUS_SHIFT];
     }
 
     /**
@@ -140,14 +249,7 @@ public class Grid {
         if (rows != gridObj.rows || cols != gridObj.cols) {
             return false;
         }
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                if (!grid[i][j].equals(gridObj.grid[i][j])) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return Arrays.equals(cells, gridObj.cells);
     }
 
     /**
@@ -159,13 +261,13 @@ public class Grid {
      */
     @Override
     public String toString() {
-        String result = "";
+        StringBuilder result = new StringBuilder();
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                result = result + "|" + grid[i][j].toString();
+                result.append('|').append(letter(i, j)).append(' ').append(status(i, j));
             }
-            result = result + "|\n";
+            result.append("|\n");
         }
-        return result;
+        return result.toString();
     }
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import Project4.src.Grid;
 import Project4.src.Letter;
+import Project4.src.Tile;
 
 //TODO: Add documentation to pass checkstyle
 
@@ -332,4 +333,58 @@ public class GridTest {
 
         }
 
+        /**
+         * Test every cell of a full-size grid holds its own letter and status
+         */
+        @Test
+        public void testUpdateLetterEveryCell() {
+                Grid big = new Grid(6, 5);
+                Letter.Status[] statuses = Letter.Status.values();
+                for (int i = 0; i < 6; i++) {
+                        for (int j = 0; j < 5; j++) {
+                                big.updateLetter(i, j, (char) ('A' + (i * 5 + j) % 26),
+                                                statuses[(i + j) % statuses.length]);
+                        }
+                }
+                for (int i = 0; i < 6; i++) {
+                        for (int j = 0; j < 5; j++) {
+                                assertEquals((char) ('A' + (i * 5 + j) % 26), big.getLetter(i, j),
+                                                "Test getLetter for every cell");
+                                assertEquals(statuses[(i + j) % statuses.length], big.getStatus(i, j),
+                                                "Test getStatus for every cell");
+                        }
+                }
+                big.updateLetter(5, 4, '_', Letter.Status.NOT_GUESSED);
+                assertEquals('_', big.getLetter(5, 4), "Test getLetter after reset to underscore");
+                assertEquals('Y', big.getLetter(4, 4), "Test neighbouring cell unchanged");
+        }
+
+        /**
+         * Test updateLetter with an invalid letter or status
+         */
+        @Test
+        public void testUpdateLetterInvalidValues() {
+                Exception exception = assertThrows(IllegalArgumentException.class,
+                                () -> grid.updateLetter(0, 0, 'a', Letter.Status.IN_WORD));
+                assertEquals("Invalid letter", exception.getMessage(), "invalid letter - exception message");
+                exception = assertThrows(IllegalArgumentException.class,
+                                () -> grid.updateLetter(0, 0, 'A', null));
+                assertEquals("Invalid status", exception.getMessage(), "invalid status - exception message");
+                assertEquals('_', grid.getLetter(0, 0), "Test cell unchanged after invalid update");
+        }
+
+        /**
+         * Test getTile returns the shared Tile for each cell
+         */
+        @Test
+        public void testGetTile() {
+                grid.updateLetter(1, 2, 'H', Letter.Status.IN_WORD);
+                assertSame(Tile.of('H', Letter.Status.IN_WORD), grid.getTile(1, 2), "Test getTile after update");
+                assertSame(Tile.of('_', Letter.Status.NOT_GUESSED), grid.getTile(0, 0),
+                                "Test getTile after constructed");
+                Exception exception = assertThrows(IllegalArgumentException.class, () -> grid.getTile(2, 0));
+                assertEquals("Invalid row", exception.getMessage(), "invalid row - exception message");
+                exception = assertThrows(IllegalArgumentException.class, () -> grid.getTile(0, -1));
+                assertEquals("Invalid col", exception.getMessage(), "invalid col - exception message");
+        }
 }
@@ -0,0 +1,85 @@
+package Project4.src;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LatencyHistogram {
+
+    /**
+     * the number of buckets. Bucket b counts the latencies whose highest set
+     * bit is bit b - 1, that is from 2^(b-1) to 2^b - 1 nanoseconds; bucket 0
+     * counts latencies of zero.
+     */
+    public static final int BUCKETS = 64;
+
+    /**
+     * the number of latencies recorded in each bucket.
+     */
+    private final LongAdder[] counts;
+
+    /**
+     * constructs an empty LatencyHistogram. Recording is lock-free and spreads
+     * contended updates over striped cells, so it is cheap from many threads.
+     */
+    public LatencyHistogram() {
+        counts = new LongAdder[BUCKETS];
+        for (int b = 0; b < BUCKETS; b++) {
+            counts[b] = new LongAdder();
+        }
+    }
+
+    /**
+     * records one latency. Negative latencies are counted as zero.
+     *
+     * @param nanos is the latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts[BUCKETS - Long.numberOfLeadingZeros(nanos)].increment();
+    }
+
+    /**
+     * returns a copy of the bucket counts.
+     *
+     * @return the number of latencies in each bucket.
+     */
+    public long[] getCounts() {
+        long[] copy = new long[BUCKETS];
+        for (int b = 0; b < BUCKETS; b++) {
+            copy[b] = counts[b].sum();
+        }
+        return copy;
+    }
+
+    /**
+     * returns an upper bound on the given percentile of a set of bucket counts:
+     * the largest latency that falls in the bucket holding the percentile.
+     *
+     * @param counts     is the number of latencies in each bucket.
+     * @param percentile is the percentile, from 0 to 100.
+     * @return the percentile in nanoseconds, or 0 if no latency was recorded.
+     * @throws IllegalArgumentException if the percentile is out of bounds.
+     */
+    public static long percentile(long[] counts, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Invalid percentile");
+        }
+        long total = 0;
+        for (int b = 0; b < counts.length; b++) {
+            total += counts[b];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int b = 0; b < counts.length; b++) {
+            seen += counts[b];
+            if (seen >= rank) {
+                return b == BUCKETS - 1 ? Long.MAX_VALUE : (1L << b) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,469 @@
+package Project4.src;
+
+import java.io.File;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class Lexicon {
+
+    /**
+     * the default file of words that are accepted as guesses.
+     */
+    public static final String VALID_WORDS_FILE = "word-files/ValidWordList.txt";
+
+    /**
+     * the default file of words that can be chosen as the secret word.
+     */
+    public static final String WOLFLE_WORDS_FILE = "word-files/WolfleWordList.txt";
+
+    /**
+     * the system property naming the directory forLength reads word files
+     * from. It defaults to "word-files".
+     */
+    public static final String WORD_FILES_PROPERTY = "wolfle.wordFiles";
+
+    /**
+     * lexicons that have already been loaded, keyed by their file paths and
+     * word length.
+     */
+    private static final ConcurrentHashMap<String, Lexicon> LOADED = new ConcurrentHashMap<>();
+
+    /**
+     * the number of times any lexicon has been read from disk in this JVM.
+     */
+    private static final AtomicInteger LOAD_COUNT = new AtomicInteger();
+
+    /**
+     * the number of letters in every word.
+     */
+    private final int wordLength;
+
+    /**
+     * the words that are accepted as guesses.
+     */
+    private final WordSet validWords;
+
+    /**
+     * the words that can be chosen as the secret word, in file order.
+     */
+    private final String[] wolfleWords;
+
+    /**
+     * the words that can be chosen as the secret word, for fast lookup.
+     */
+    private final WordSet wolfleWordSet;
+
+    /**
+     * the letter and position index over the wolfle words.
+     */
+    private final AnswerIndex answerIndex;
+
+    /**
+     * the precomputed feedback for every guess and answer, or null if none.
+     */
+    private final FeedbackMatrix feedbackMatrix;
+
+    /**
+     * constructs a Lexicon of Wolfle.COLS letter words from the given word
+     * arrays. The valid words are packed into a WordSet and the wolfle words
+     * are copied, so the lexicon cannot be changed after it is built.
+     *
+     * @param validWords  is the array of words accepted as guesses.
+     * @param wolfleWords is the array of words that can be the secret word.
+     * @throws IllegalArgumentException if either array is null.
+     */
+    public Lexicon(String[] validWords, String[] wolfleWords) {
+        this(validWords, wolfleWords, Wolfle.COLS);
+    }
+
+    /**
+     * constructs a Lexicon of words of the given length from the given word
+     * arrays.
+     *
+     * @param validWords  is the array of words accepted as guesses.
+     * @param wolfleWords is the array of words that can be the secret word.
+     * @param wordLength  is the number of letters in every word.
+     * @throws IllegalArgumentException if either array is null or the length
+     *                                  cannot be encoded.
+     */
+    public Lexicon(String[] validWords, String[] wolfleWords, int wordLength) {
+        if (validWords == null || wolfleWords == null) {
+            throw new IllegalArgumentException("Null word list");
+        }
+        this.wordLength = wordLength;
+        this.validWords = new WordSet(validWords, wordLength);
+        this.wolfleWords = wolfleWords.clone();
+        this.wolfleWordSet = new WordSet(wolfleWords, wordLength);
+        this.answerIndex = new AnswerIndex(wolfleWordSet);
+        this.feedbackMatrix = null;
+    }
+
+    /**
+     * constructs a Lexicon from the codes of already validated words.
+     *
+     * @param validCodes  is the long WordCodes of the words accepted as
+     *                    guesses.
+     * @param wolfleCodes is the long WordCodes of the words that can be the
+     *                    secret word, in file order without duplicates.
+     * @param wordLength  is the number of letters in every word.
+     */
+    private Lexicon(long[] validCodes, long[] wolfleCodes, int wordLength) {
+        this.wordLength = wordLength;
+        this.validWords = new WordSet(validCodes, wordLength);
+        this.wolfleWords = new String[wolfleCodes.length];
+        for (int i = 0; i < wolfleCodes.length; i++) {
+            this.wolfleWords[i] = WordCode.decodeLong(wolfleCodes[i], wordLength);
+        }
+        this.wolfleWordSet = new WordSet(wolfleCodes, wordLength);
+        this.answerIndex = new AnswerIndex(wolfleWordSet);
+        this.feedbackMatrix = null;
+    }
+
+    /**
+     * constructs a Lexicon that shares the words of another lexicon and uses the
+     * given feedback matrix.
+     *
+     * @param words          is the lexicon whose words are shared.
+     * @param feedbackMatrix is the feedback matrix to use.
+     */
+    private Lexicon(Lexicon words, FeedbackMatrix feedbackMatrix) {
+        this.wordLength = words.wordLength;
+        this.validWords = words.validWords;
+        this.wolfleWords = words.wolfleWords;
+        this.wolfleWordSet = words.wolfleWordSet;
+        this.answerIndex = words.answerIndex;
+        this.feedbackMatrix = feedbackMatrix;
+    }
+
+    /**
+     * returns the shared lexicon for the default word files, loading it the first
+     * time it is requested.
+     *
+     * @return the shared default lexicon.
+     * @throws IllegalArgumentException if the files cannot be accessed.
+     */
+    public static Lexicon getDefault() {
+        return forLength(Wolfle.COLS);
+    }
+
+    /**
+     * returns the shared lexicon shard for words of the given length. Each
+     * length has its own pair of files, read the first time a shard of that
+     * length is requested and never again, so a server only pays for the
+     * lengths its players actually use.
+     *
+     * @param wordLength is the number of letters.
+     * @return the shared lexicon for the length.
+     * @throws IllegalArgumentException if the length cannot be encoded or its
+     *                                  files cannot be read.
+     */
+    public static Lexicon forLength(int wordLength) {
+        if (!WordCode.isValidLength(wordLength)) {
+            throw new IllegalArgumentException("Invalid word length");
+        }
+        return get(validWordsFile(wordLength), wolfleWordsFile(wordLength), wordLength);
+    }
+
+    /**
+     * returns the path forLength reads the valid words of the given length
+     * from: ValidWordList.txt for Wolfle.COLS letters and ValidWordList4.txt
+     * and so on for other lengths, in the directory named by
+     * WORD_FILES_PROPERTY.
+     *
+     * @param wordLength is the number of letters.
+     * @return the path of the file.
+     */
+    public static String validWordsFile(int wordLength) {
+        return wordFile("ValidWordList", wordLength);
+    }
+
+    /**
+     * returns the path forLength reads the wolfle words of the given length
+     * from, named like validWordsFile.
+     *
+     * @param wordLength is the number of letters.
+     * @return the path of the file.
+     */
+    public static String wolfleWordsFile(int wordLength) {
+        return wordFile("WolfleWordList", wordLength);
+    }
+
+    /**
+     * returns the path of a word file.
+     *
+     * @param name       is the name of the list.
+     * @param wordLength is the number of letters.
+     * @return the path of the file.
+     */
+    private static String wordFile(String name, int wordLength) {
+        String directory = System.getProperty(WORD_FILES_PROPERTY, "word-files");
+        String suffix = wordLength == Wolfle.COLS ? "" : Integer.toString(wordLength);
+        return directory + "/" + name + suffix + ".txt";
+    }
+
+    /**
+     * returns the shared lexicon for the given word files. The files are read at
+     * most once per JVM; every later call with the same paths returns the same
+     * instance. If a feedback matrix built for these words is found next to the
+     * valid word file, it is mapped and used. This method is safe to call from
+     * multiple threads.
+     *
+     * @param validWordsFile  is the path of the file of valid guesses.
+     * @param wolfleWordsFile is the path of the file of secret words.
+     * @return the shared lexicon for the given files.
+     * @throws IllegalArgumentException if a path is null or a file cannot be
+     *                                  accessed.
+     */
+    public static Lexicon get(String validWordsFile, String wolfleWordsFile) {
+        return get(validWordsFile, wolfleWordsFile, Wolfle.COLS);
+    }
+
+    /**
+     * returns the shared lexicon for the given files of words of the given
+     * length, like get(String, String).
+     *
+     * @param validWordsFile  is the path of the file of valid guesses.
+     * @param wolfleWordsFile is the path of the file of secret words.
+     * @param wordLength      is the number of letters in every word.
+     * @return the shared lexicon for the given files.
+     * @throws IllegalArgumentException if a path is null, the length cannot be
+     *                                  encoded, or a file cannot be accessed.
+     */
+    public static Lexicon get(String validWordsFile, String wolfleWordsFile, int wordLength) {
+        if (validWordsFile == null || wolfleWordsFile == null) {
+            throw new IllegalArgumentException("Null file path");
+        }
+        String key = validWordsFile + "\n" + wolfleWordsFile + "\n" + wordLength;
+        return LOADED.computeIfAbsent(key, k -> attachFeedbackMatrix(
+                load(validWordsFile, wolfleWordsFile, wordLength), validWordsFile));
+    }
+
+    /**
+     * returns the lexicon with the feedback matrix that sits next to the valid
+     * word file, or the lexicon unchanged if there is no matrix or it was built
+     * for different words.
+     *
+     * @param lexicon        is the freshly loaded lexicon.
+     * @param validWordsFile is the path of the valid word file.
+     * @return the lexicon to share.
+     */
+    private static Lexicon attachFeedbackMatrix(Lexicon lexicon, String validWordsFile) {
+        String matrixFile = FeedbackMatrix.fileFor(validWordsFile);
+        if (lexicon.wordLength != Wolfle.COLS || !new File(matrixFile).isFile()) {
+            return lexicon;
+        }
+        try {
+            return lexicon.withFeedbackMatrix(FeedbackMatrix.open(lexicon, matrixFile));
+        } catch (IllegalArgumentException e) {
+            // a stale matrix is ignored; feedback is computed instead
+            return lexicon;
+        }
+    }
+
+    /**
+     * reads a new lexicon from the given word files without consulting or
+     * updating the shared cache. Each file is read in one pass by
+     * WordListLoader, so a bad line is reported here rather than during a game.
+     *
+     * @param validWordsFile  is the path of the file of valid guesses.
+     * @param wolfleWordsFile is the path of the file of secret words.
+     * @return a new lexicon holding the words in the files.
+     * @throws IllegalArgumentException if a file cannot be accessed or holds a
+     *                                  line that is not a valid word.
+     */
+    public static Lexicon load(String validWordsFile, String wolfleWordsFile) {
+        return load(validWordsFile, wolfleWordsFile, Wolfle.COLS);
+    }
+
+    /**
+     * reads a new lexicon of words of the given length, like
+     * load(String, String).
+     *
+     * @param validWordsFile  is the path of the file of valid guesses.
+     * @param wolfleWordsFile is the path of the file of secret words.
+     * @param wordLength      is the number of letters in every word.
+     * @return a new lexicon holding the words in the files.
+     * @throws IllegalArgumentException if the length cannot be encoded, a file
+     *                                  cannot be accessed, or a file holds a
+     *                                  line that is not a valid word.
+     */
+    public static Lexicon load(String validWordsFile, String wolfleWordsFile, int wordLength) {
+        LOAD_COUNT.incrementAndGet();
+        long[] validCodes = WordListLoader.loadLong(validWordsFile, wordLength);
+        return new Lexicon(validCodes, WordListLoader.loadLong(wolfleWordsFile, wordLength),
+                wordLength);
+    }
+
+    /**
+     * returns the number of times a lexicon has been read from disk in this JVM.
+     * Creating games from a shared lexicon does not change this count.
+     *
+     * @return the number of lexicon loads so far.
+     */
+    public static int getLoadCount() {
+        return LOAD_COUNT.get();
+    }
+
+    /**
+     * returns the number of letters in every word of this lexicon.
+     *
+     * @return the word length.
+     */
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    /**
+     * returns the number of distinct words accepted as guesses.
+     *
+     * @return the number of valid words.
+     */
+    public int getValidWordCount() {
+        return validWords.size();
+    }
+
+    /**
+     * returns the number of words that can be chosen as the secret word.
+     *
+     * @return the number of wolfle words.
+     */
+    public int getWolfleWordCount() {
+        return wolfleWords.length;
+    }
+
+    /**
+     * returns a lexicon with the same words that evaluates feedback by looking it
+     * up in the given matrix.
+     *
+     * @param matrix is the feedback matrix built for these words.
+     * @return the new lexicon.
+     * @throws IllegalArgumentException if the matrix is null or its size does
+     *                                  not match the words.
+     */
+    public Lexicon withFeedbackMatrix(FeedbackMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Null feedback matrix");
+        }
+        if (matrix.getGuessCount() != validWords.size()
+                || matrix.getAnswerCount() != wolfleWordSet.size()) {
+            throw new IllegalArgumentException("Feedback matrix does not match lexicon");
+        }
+        return new Lexicon(this, matrix);
+    }
+
+    /**
+     * returns the feedback matrix for this lexicon.
+     *
+     * @return the feedback matrix, or null if feedback is computed.
+     */
+    public FeedbackMatrix getFeedbackMatrix() {
+        return feedbackMatrix;
+    }
+
+    /**
+     * returns the letter and position index over the wolfle words, whose bits
+     * follow the order of getWolfleWords(). Wolfle narrows its remaining
+     * candidates with it.
+     *
+     * @return the answer index.
+     */
+    public AnswerIndex getAnswerIndex() {
+        return answerIndex;
+    }
+
+    /**
+     * returns the set of words accepted as guesses.
+     *
+     * @return the valid words.
+     */
+    public WordSet getValidWords() {
+        return validWords;
+    }
+
+    /**
+     * returns the set of distinct words that can be chosen as the secret word.
+     *
+     * @return the wolfle words.
+     */
+    public WordSet getWolfleWords() {
+        return wolfleWordSet;
+    }
+
+    /**
+     * returns the secret-word candidate at the given index.
+     *
+     * @param index is the index of the word to return.
+     * @return the wolfle word at the index.
+     * @throws IllegalArgumentException if the index is out of bounds.
+     */
+    public String getWolfleWord(int index) {
+        if (index < 0 || index >= wolfleWords.length) {
+            throw new IllegalArgumentException("Invalid index");
+        }
+        return wolfleWords[index];
+    }
+
+    /**
+     * checks if a word is accepted as a guess.
+     *
+     * @param word is the word to check.
+     * @return true if the word is a valid guess, false otherwise.
+     */
+    public boolean isValidWord(String word) {
+        return validWords.contains(word);
+    }
+
+    /**
+     * checks if the word with the given code is accepted as a guess. This method
+     * runs in constant time and does not allocate.
+     *
+     * @param code is the WordCode of the word to check.
+     * @return true if the word is a valid guess, false otherwise.
+     */
+    public boolean isValidCode(int code) {
+        return validWords.contains(code);
+    }
+
+    /**
+     * checks if the word with the given long code is accepted as a guess. This
+     * works for every word length, runs in constant time and does not
+     * allocate.
+     *
+     * @param code is the long WordCode of the word to check.
+     * @return true if the word is a valid guess, false otherwise.
+     */
+    public boolean isValidCode(long code) {
+        return validWords.contains(code);
+    }
+
+    /**
+     * checks if a word can be chosen as the secret word.
+     *
+     * @param word is the word to check.
+     * @return true if the word is a wolfle word, false otherwise.
+     */
+    public boolean isWolfleWord(String word) {
+        return wolfleWordSet.contains(word);
+    }
+
+    /**
+     * checks if the word with the given code can be chosen as the secret word.
+     *
+     * @param code is the WordCode of the word to check.
+     * @return true if the word is a wolfle word, false otherwise.
+     */
+    public boolean isWolfleCode(int code) {
+        return wolfleWordSet.contains(code);
+    }
+
+    /**
+     * checks if the word with the given long code can be chosen as the secret
+     * word. This works for every word length.
+     *
+     * @param code is the long WordCode of the word to check.
+     * @return true if the word is a wolfle word, false otherwise.
+     */
+    public boolean isWolfleCode(long code) {
+        return wolfleWordSet.contains(code);
+    }
+}
@@ -0,0 +1,181 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import Project4.src.Letter;
+import Project4.src.Lexicon;
+import Project4.src.Wolfle;
+
+/**
+ * Tests Lexicon class
+ *
+ * @author Roshni Desai
+ */
+public class LexiconTest {
+
+    /** Directory for word files */
+    @TempDir
+    File dir;
+
+    /**
+     * Test that the default lexicon is shared
+     */
+    @Test
+    public void testGetDefaultIsShared() {
+        assertSame(Lexicon.getDefault(), Lexicon.getDefault(), "Test default lexicon is shared");
+        assertSame(Lexicon.getDefault(),
+                Lexicon.get(Lexicon.VALID_WORDS_FILE, Lexicon.WOLFLE_WORDS_FILE),
+                "Test get with default paths returns default lexicon");
+    }
+
+    /**
+     * Test that creating games does not read the word files
+     */
+    @Test
+    public void testGameCreationDoesNotLoad() {
+        new Wolfle("ELEGY");
+        int loads = Lexicon.getLoadCount();
+        for (int i = 0; i < 1000; i++) {
+            new Wolfle("");
+        }
+        assertEquals(loads, Lexicon.getLoadCount(), "Test no loads after first game");
+    }
+
+    /**
+     * Test word lookups
+     */
+    @Test
+    public void testLookups() {
+        Lexicon lexicon = new Lexicon(new String[] { "EAGLE", "ELEGY", "HAPPY" },
+                new String[] { "ELEGY" });
+        assertEquals(3, lexicon.getValidWordCount(), "Test valid word count");
+        assertEquals(1, lexicon.getWolfleWordCount(), "Test wolfle word count");
+        assertEquals("ELEGY", lexicon.getWolfleWord(0), "Test getWolfleWord");
+        assertTrue(lexicon.isValidWord("HAPPY"), "Test valid word");
+        assertFalse(lexicon.isValidWord("NOTIT"), "Test invalid word");
+        assertTrue(lexicon.isWolfleWord("ELEGY"), "Test wolfle word");
+        assertFalse(lexicon.isWolfleWord("EAGLE"), "Test not a wolfle word");
+        assertEquals("ELEGY", new Wolfle(lexicon, "").getSecretWord(),
+                "Test random secret word from lexicon");
+    }
+
+    /**
+     * Test the Lexicon methods with invalid values
+     */
+    @Test
+    public void testExceptions() {
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> Lexicon.get("no-such-file.txt", Lexicon.WOLFLE_WORDS_FILE));
+        assertEquals("Unable to access file: no-such-file.txt", e.getMessage(),
+                "Lexicon missing file IllegalArgumentException message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> new Lexicon(null, new String[0]));
+        assertEquals("Null word list", e.getMessage(),
+                "Lexicon null word list IllegalArgumentException message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> Lexicon.getDefault().getWolfleWord(-1));
+        assertEquals("Invalid index", e.getMessage(),
+                "getWolfleWord Invalid index IllegalArgumentException message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> new Wolfle(null, "ELEGY"));
+        assertEquals("Null lexicon", e.getMessage(),
+                "Wolfle Null lexicon IllegalArgumentException message");
+    }
+
+    /**
+     * Test a lexicon of four letter words
+     */
+    @Test
+    public void testFourLetters() {
+        Lexicon lexicon = new Lexicon(new String[] { "WOLF", "PACK", "HOWL", "ELEGY" },
+                new String[] { "WOLF", "HOWL" }, 4);
+        assertEquals(4, lexicon.getWordLength(), "Test word length");
+        assertEquals(3, lexicon.getValidWordCount(), "Test valid word count");
+        assertTrue(lexicon.isValidWord("PACK"), "Test PACK is valid");
+        assertFalse(lexicon.isValidWord("ELEGY"), "Test five letter word is not valid");
+        assertNull(lexicon.getFeedbackMatrix(), "Test no feedback matrix");
+        Wolfle game = new Wolfle(lexicon, 3, "WOLF", false);
+        assertEquals(4, game.getCols(), "Test game columns");
+        assertEquals(3, game.getRows(), "Test game rows");
+    }
+
+    /**
+     * Test that each length's files are read only when a game of that length is
+     * first created, and only once
+     *
+     * @throws IOException if the word files cannot be written
+     */
+    @Test
+    public void testShardsLoadLazily() throws IOException {
+        Files.write(new File(dir, "ValidWordList6.txt").toPath(),
+                "WOLFIE\nBANANA\nFOLLOW\n".getBytes("US-ASCII"));
+        Files.write(new File(dir, "WolfleWordList6.txt").toPath(),
+                "WOLFIE\nBANANA\n".getBytes("US-ASCII"));
+        String previous = System.setProperty(Lexicon.WORD_FILES_PROPERTY, dir.getPath());
+        try {
+            assertEquals(dir.getPath() + "/ValidWordList6.txt", Lexicon.validWordsFile(6),
+                    "Test valid words file for six letters");
+            int loads = Lexicon.getLoadCount();
+            Wolfle game = new Wolfle(6, 8, "WOLFIE");
+            assertEquals(loads + 1, Lexicon.getLoadCount(), "Test shard loaded by first game");
+            assertEquals(6, game.getCols(), "Test game columns");
+            assertEquals(8, game.getRows(), "Test game rows");
+            assertTrue(game.processGuess("FOLLOW", 0), "Test six letter guess");
+            assertEquals(Letter.Status.IN_POSITION, game.getGridLetterStatus(0, 1),
+                    "Test O is in position");
+            new Wolfle(6, 6, "");
+            assertSame(game.getLexicon(), Lexicon.forLength(6), "Test shard is shared");
+            assertEquals(loads + 1, Lexicon.getLoadCount(), "Test shard not loaded again");
+        } finally {
+            if (previous == null) {
+                System.clearProperty(Lexicon.WORD_FILES_PROPERTY);
+            } else {
+                System.setProperty(Lexicon.WORD_FILES_PROPERTY, previous);
+            }
+        }
+        Exception e = assertThrows(IllegalArgumentException.class, () -> Lexicon.forLength(9));
+        assertEquals("Invalid word length", e.getMessage(),
+                "forLength Invalid word length IllegalArgumentException message");
+    }
+
+    /**
+     * Test a hard mode game of eight letter words, which have long codes and
+     * can hold a letter more than three times
+     *
+     * @throws IOException if the word files cannot be written
+     */
+    @Test
+    public void testEightLetters() throws IOException {
+        Files.write(new File(dir, "ValidWordList8.txt").toPath(),
+                "ASSESSES\nSESSIONS\nMISSIVES\nELEPHANT\n".getBytes("US-ASCII"));
+        Files.write(new File(dir, "WolfleWordList8.txt").toPath(),
+                "ASSESSES\nELEPHANT\n".getBytes("US-ASCII"));
+        String previous = System.setProperty(Lexicon.WORD_FILES_PROPERTY, dir.getPath());
+        try {
+            Wolfle game = new Wolfle(Lexicon.forLength(8), 6, "ASSESSES", true);
+            assertEquals(8, game.getCols(), "Test game columns");
+            assertTrue(game.processGuess("SESSIONS", 0), "Test eight letter guess");
+            assertEquals(Letter.Status.IN_POSITION, game.getGridLetterStatus(0, 2),
+                    "Test S is in position");
+            assertEquals(Letter.Status.IN_WORD, game.getGridLetterStatus(0, 0), "Test S is in word");
+            assertEquals(Letter.Status.NOT_IN_WORD, game.getGridLetterStatus(0, 4),
+                    "Test I is not in word");
+            assertEquals(1, game.remainingCount(), "Test ELEPHANT ruled out");
+            assertFalse(game.satisfiesConstraints("MISSIVES"), "Test hard mode needs four S");
+            assertFalse(game.processGuess("MISSIVES", 1), "Test hard mode rejects MISSIVES");
+            assertTrue(game.processGuess("ASSESSES", 1), "Test winning guess");
+            assertTrue(game.isGameOverCorrectGuess(), "Test game won");
+        } finally {
+            if (previous == null) {
+                System.clearProperty(Lexicon.WORD_FILES_PROPERTY);
+            } else {
+                System.setProperty(Lexicon.WORD_FILES_PROPERTY, previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package Project4.src;
+
+public final class MetricsSnapshot {
+
+    /**
+     * the counter values when the snapshot was taken.
+     */
+    private final long gamesCreated;
+    private final long guessesProcessed;
+    private final long invalidGuesses;
+    private final long wins;
+    private final long losses;
+    private final long sessionsCreated;
+    private final long sessionsRemoved;
+
+    /**
+     * the latency histogram buckets of evaluateGuess and processGuess.
+     */
+    private final long[] evaluateGuessCounts;
+    private final long[] processGuessCounts;
+
+    /**
+     * the startup times of the GUI, or -1 if they were not recorded.
+     */
+    private final long timeToFirstPaint;
+    private final long timeToReady;
+
+    /**
+     * constructs a MetricsSnapshot from values already read.
+     *
+     * @param gamesCreated        is the number of games created.
+     * @param guessesProcessed    is the number of valid guesses processed.
+     * @param invalidGuesses      is the number of guesses rejected.
+     * @param wins                is the number of games won.
+     * @param losses              is the number of games lost.
+     * @param sessionsCreated     is the number of sessions created.
+     * @param sessionsRemoved     is the number of sessions removed or expired.
+     * @param evaluateGuessCounts is the evaluateGuess latency buckets.
+     * @param processGuessCounts  is the processGuess latency buckets.
+     * @param timeToFirstPaint    is the GUI's time to first paint, or -1.
+     * @param timeToReady         is the GUI's time until it accepted input, or
+     *                            -1.
+     */
+    MetricsSnapshot(long gamesCreated, long guessesProcessed, long invalidGuesses, long wins,
+            long losses, long sessionsCreated, long sessionsRemoved, long[] evaluateGuessCounts,
+            long[] processGuessCounts, long timeToFirstPaint, long timeToReady) {
+        this.gamesCreated = gamesCreated;
+        this.guessesProcessed = guessesProcessed;
+        this.invalidGuesses = invalidGuesses;
+        this.wins = wins;
+        this.losses = losses;
+        this.sessionsCreated = sessionsCreated;
+        this.sessionsRemoved = sessionsRemoved;
+        this.evaluateGuessCounts = evaluateGuessCounts;
+        this.processGuessCounts = processGuessCounts;
+        this.timeToFirstPaint = timeToFirstPaint;
+        this.timeToReady = timeToReady;
+    }
+
+    /**
+     * returns the number of games created.
+     *
+     * @return the number of games.
+     */
+    public long getGamesCreated() {
+        return gamesCreated;
+    }
+
+    /**
+     * returns the number of valid guesses processed.
+     *
+     * @return the number of guesses.
+     */
+    public long getGuessesProcessed() {
+        return guessesProcessed;
+    }
+
+    /**
+     * returns the number of guesses rejected by processGuess.
+     *
+     * @return the number of invalid guesses.
+     */
+    public long getInvalidGuesses() {
+        return invalidGuesses;
+    }
+
+    /**
+     * returns the number of games won.
+     *
+     * @return the number of wins.
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * returns the number of games lost.
+     *
+     * @return the number of losses.
+     */
+    public long getLosses() {
+        return losses;
+    }
+
+    /**
+     * returns the number of sessions created.
+     *
+     * @return the number of sessions.
+     */
+    public long getSessionsCreated() {
+        return sessionsCreated;
+    }
+
+    /**
+     * returns the number of sessions removed or expired.
+     *
+     * @return the number of sessions.
+     */
+    public long getSessionsRemoved() {
+        return sessionsRemoved;
+    }
+
+    /**
+     * returns the number of calls to evaluateGuess.
+     *
+     * @return the number of calls.
+     */
+    public long getEvaluateGuessCount() {
+        return sum(evaluateGuessCounts);
+    }
+
+    /**
+     * returns the number of calls to processGuess, valid or not.
+     *
+     * @return the number of calls.
+     */
+    public long getProcessGuessCount() {
+        return sum(processGuessCounts);
+    }
+
+    /**
+     * returns a percentile of the evaluateGuess latency, to within a factor of
+     * two.
+     *
+     * @param percentile is the percentile, from 0 to 100.
+     * @return the latency in nanoseconds.
+     * @throws IllegalArgumentException if the percentile is out of bounds.
+     */
+    public long getEvaluateGuessNanos(double percentile) {
+        return LatencyHistogram.percentile(evaluateGuessCounts, percentile);
+    }
+
+    /**
+     * returns a percentile of the processGuess latency, to within a factor of
+     * two.
+     *
+     * @param percentile is the percentile, from 0 to 100.
+     * @return the latency in nanoseconds.
+     * @throws IllegalArgumentException if the percentile is out of bounds.
+     */
+    public long getProcessGuessNanos(double percentile) {
+        return LatencyHistogram.percentile(processGuessCounts, percentile);
+    }
+
+    /**
+     * returns how long the GUI took from launch to its first paint.
+     *
+     * @return the time in nanoseconds, or -1 if it was not recorded.
+     */
+    public long getTimeToFirstPaintNanos() {
+        return timeToFirstPaint;
+    }
+
+    /**
+     * returns how long the GUI took from launch until it accepted input.
+     *
+     * @return the time in nanoseconds, or -1 if it was not recorded.
+     */
+    public long getTimeToReadyNanos() {
+        return timeToReady;
+    }
+
+    /**
+     * returns the sum of a set of bucket counts.
+     *
+     * @param counts is the bucket counts.
+     * @return the sum.
+     */
+    private static long sum(long[] counts) {
+        long total = 0;
+        for (int b = 0; b < counts.length; b++) {
+            total += counts[b];
+        }
+        return total;
+    }
+
+    /**
+     * returns a report of every metric.
+     *
+     * @return the report.
+     */
+    @Override
+    public String toString() {
+        String result = "Games created: " + gamesCreated + "\n";
+        result = result + "Guesses processed: " + guessesProcessed + "\n";
+        result = result + "Invalid guesses: " + invalidGuesses + "\n";
+        result = result + "Wins: " + wins + "\n";
+        result = result + "Losses: " + losses + "\n";
+        result = result + "Sessions created: " + sessionsCreated + "\n";
+        result = result + "Sessions removed: " + sessionsRemoved + "\n";
+        result = result + "evaluateGuess p50/p99 ns: " + getEvaluateGuessNanos(50) + "/"
+                + getEvaluateGuessNanos(99) + "\n";
+        result = result + "processGuess p50/p99 ns: " + getProcessGuessNanos(50) + "/"
+                + getProcessGuessNanos(99) + "\n";
+        result = result + "Time to first paint/ready ns: " + timeToFirstPaint + "/" + timeToReady
+                + "\n";
+        return result;
+    }
+}
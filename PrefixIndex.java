@@ -0,0 +1,209 @@
+package Project4.src;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class PrefixIndex {
+
+    /**
+     * the node returned by child for a letter that does not extend the prefix.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * the number of letters in every word.
+     */
+    private final int length;
+
+    /**
+     * for each node, one bit per alphabet index for the letters that extend
+     * the node's prefix toward a word.
+     */
+    private final int[] masks;
+
+    /**
+     * for each node, the index in edges of the child for its lowest letter.
+     * The children follow in letter order, one per bit of the mask.
+     */
+    private final int[] firstEdge;
+
+    /**
+     * the child nodes of every node, grouped by parent.
+     */
+    private final int[] edges;
+
+    /**
+     * the node for the empty prefix.
+     */
+    private final int root;
+
+    /**
+     * constructs a PrefixIndex over the words of a WordSet. The index is a
+     * DAWG: a trie in which nodes with the same set of suffixes are merged, so
+     * words that end alike share their tails. Nodes are stored in int arrays
+     * rather than objects.
+     *
+     * @param words is the set of words to index.
+     * @throws IllegalArgumentException if the set is null.
+     */
+    public PrefixIndex(WordSet words) {
+        if (words == null) {
+            throw new IllegalArgumentException("Null word set");
+        }
+        length = words.getWordLength();
+        int size = words.size();
+
+        // sort the words alphabetically, first letter most significant, so
+        // every prefix is a run of consecutive words
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            long code = words.getLongCode(i);
+            for (int col = 0; col < length; col++) {
+                keys[i] = keys[i] << WordCode.BITS_PER_LETTER | WordCode.letterAt(code, col);
+            }
+        }
+        Arrays.sort(keys);
+
+        int[] nodeMasks = new int[size * length + 1];
+        int[] nodeEdges = new int[size * length + 1];
+        int[] allEdges = new int[size * length];
+        int nodeCount = 1;
+        int edgeCount = 0;
+        Map<String, Integer> nodes = new HashMap<String, Integer>();
+
+        // node 0 is the end of every word; build the levels above it from the
+        // last column up, merging nodes whose children are the same
+        int[] below = new int[size];
+        for (int col = length - 1; col >= 0; col--) {
+            int shift = (length - 1 - col) * WordCode.BITS_PER_LETTER;
+            int start = 0;
+            while (start < size) {
+                int end = start + 1;
+                while (end < size && keys[end] >>> shift + WordCode.BITS_PER_LETTER
+                        == keys[start] >>> shift + WordCode.BITS_PER_LETTER) {
+                    end++;
+                }
+                int mask = 0;
+                StringBuilder signature = new StringBuilder();
+                for (int i = start; i < end; i++) {
+                    int letter = (int) (keys[i] >>> shift) & WordCode.LETTER_MASK;
+                    if ((mask & 1 << letter) == 0) {
+                        mask |= 1 << letter;
+                        signature.append(letter).append(':').append(below[i]).append(',');
+                    }
+                }
+                Integer node = nodes.get(signature.toString());
+                if (node == null) {
+                    node = nodeCount;
+                    nodes.put(signature.toString(), node);
+                    nodeMasks[nodeCount] = mask;
+                    nodeEdges[nodeCount] = edgeCount;
+                    nodeCount++;
+                    int last = -1;
+                    for (int i = start; i < end; i++) {
+                        int letter = (int) (keys[i] >>> shift) & WordCode.LETTER_MASK;
+                        if (letter != last) {
+                            allEdges[edgeCount] = below[i];
+                            edgeCount++;
+                            last = letter;
+                        }
+                    }
+                }
+                for (int i = start; i < end; i++) {
+                    below[i] = node;
+                }
+                start = end;
+            }
+        }
+
+        masks = Arrays.copyOf(nodeMasks, nodeCount);
+        firstEdge = Arrays.copyOf(nodeEdges, nodeCount);
+        edges = Arrays.copyOf(allEdges, edgeCount);
+        root = size == 0 ? 0 : below[0];
+    }
+
+    /**
+     * returns the number of letters in every indexed word.
+     *
+     * @return the word length.
+     */
+    public int getWordLength() {
+        return length;
+    }
+
+    /**
+     * returns the number of nodes in the index.
+     *
+     * @return the node count.
+     */
+    public int getNodeCount() {
+        return masks.length;
+    }
+
+    /**
+     * returns the node for the empty prefix.
+     *
+     * @return the root node.
+     */
+    public int root() {
+        return root;
+    }
+
+    /**
+     * returns the letters that extend a node's prefix toward a word, one bit
+     * per alphabet index. The node for a whole word has no letters.
+     *
+     * @param node is the node.
+     * @return the mask of letters.
+     */
+    public int nextLetters(int node) {
+        return masks[node];
+    }
+
+    /**
+     * returns the node for a prefix extended by one letter. This method runs
+     * in constant time and does not allocate.
+     *
+     * @param node   is the node of the prefix.
+     * @param letter is the alphabet index of the letter.
+     * @return the node of the longer prefix, or NONE if no word starts with it.
+     */
+    public int child(int node, int letter) {
+        int mask = masks[node];
+        if (letter < 0 || letter >= Alphabet.MAX_LETTERS || (mask & 1 << letter) == 0) {
+            return NONE;
+        }
+        return edges[firstEdge[node] + Integer.bitCount(mask & ((1 << letter) - 1))];
+    }
+
+    /**
+     * returns the node for a prefix.
+     *
+     * @param prefix is the prefix, in upper case letters.
+     * @return the node of the prefix, or NONE if no word starts with it.
+     * @throws IllegalArgumentException if the prefix is null.
+     */
+    public int find(String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("Null prefix");
+        }
+        int node = root;
+        for (int i = 0; i < prefix.length() && node != NONE; i++) {
+            node = child(node, prefix.charAt(i) - 'A');
+        }
+        return node;
+    }
+
+    /**
+     * returns whether a word is in the index.
+     *
+     * @param word is the word.
+     * @return true if the word is one of the indexed words.
+     * @throws IllegalArgumentException if the word is null.
+     */
+    public boolean contains(String word) {
+        int node = find(word);
+        return node != NONE && word.length() == length;
+    }
+}
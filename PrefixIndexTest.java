@@ -0,0 +1,92 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import Project4.src.Lexicon;
+import Project4.src.PrefixIndex;
+import Project4.src.WordCode;
+import Project4.src.WordSet;
+
+/**
+ * Tests PrefixIndex class
+ *
+ * @author Roshni Desai
+ */
+public class PrefixIndexTest {
+
+    /**
+     * Test walking prefixes of a small set of words
+     */
+    @Test
+    public void testPrefixes() {
+        PrefixIndex index = new PrefixIndex(new WordSet(new String[] { "EAGLE", "ELEGY", "EAGER" }));
+        int e = index.child(index.root(), 'E' - 'A');
+        assertEquals(1 << 'E' - 'A', index.nextLetters(index.root()), "Test root letters");
+        assertEquals(1 << 'A' - 'A' | 1 << 'L' - 'A', index.nextLetters(e), "Test letters after E");
+        assertEquals(PrefixIndex.NONE, index.child(e, 'B' - 'A'), "Test EB is not a prefix");
+        assertEquals(PrefixIndex.NONE, index.find("EAGLY"), "Test EAGLY is not a word");
+        assertEquals(0, index.nextLetters(index.find("EAGLE")), "Test no letters after a word");
+        assertEquals(1 << 'E' - 'A', index.nextLetters(index.find("EAGL")), "Test letters after EAGL");
+        assertTrue(index.contains("EAGER"), "Test contains EAGER");
+        assertFalse(index.contains("EAG"), "Test prefix is not a word");
+        assertEquals(PrefixIndex.NONE, index.child(e, -1), "Test letter below A");
+        assertEquals(PrefixIndex.NONE, index.child(e, 26), "Test letter past Z");
+    }
+
+    /**
+     * Test that words ending alike share nodes
+     */
+    @Test
+    public void testSharedSuffixes() {
+        PrefixIndex index = new PrefixIndex(new WordSet(new String[] { "BAKER", "CAKER", "FAKER" }));
+        // one node for each of root, ?, ?A, ?AK, ?AKE and the end
+        assertEquals(6, index.getNodeCount(), "Test suffixes are merged");
+        assertEquals(index.find("BA"), index.find("FA"), "Test BA and FA share a node");
+    }
+
+    /**
+     * Test every valid word is found in the default lexicon's index
+     */
+    @Test
+    public void testDefaultLexicon() {
+        WordSet words = Lexicon.getDefault().getValidWords();
+        PrefixIndex index = new PrefixIndex(words);
+        for (int i = 0; i < words.size(); i++) {
+            String word = WordCode.decode(words.getCode(i));
+            assertTrue(index.contains(word), "Test contains " + word);
+        }
+        assertFalse(index.contains("ZZZZZ"), "Test does not contain ZZZZZ");
+        assertTrue(index.getNodeCount() < words.size() * 2, "Test index is compact");
+    }
+
+    /**
+     * Test an index of six letter words and an empty index
+     */
+    @Test
+    public void testOtherSets() {
+        PrefixIndex index = new PrefixIndex(new WordSet(new String[] { "WOLFIE", "WOLVES" }, 6));
+        assertEquals(6, index.getWordLength(), "Test word length");
+        assertTrue(index.contains("WOLVES"), "Test contains WOLVES");
+        assertEquals(1 << 'F' - 'A' | 1 << 'V' - 'A', index.nextLetters(index.find("WOL")),
+                "Test letters after WOL");
+        PrefixIndex empty = new PrefixIndex(new WordSet(new String[0]));
+        assertEquals(0, empty.nextLetters(empty.root()), "Test empty index has no letters");
+        assertFalse(empty.contains("ELEGY"), "Test empty index does not contain ELEGY");
+        Exception e = assertThrows(IllegalArgumentException.class, () -> new PrefixIndex(null));
+        assertEquals("Null word set", e.getMessage(), "PrefixIndex Null word set message");
+    }
+
+    /**
+     * Test an index of eight letter words
+     */
+    @Test
+    public void testEightLetters() {
+        PrefixIndex index = new PrefixIndex(new WordSet(new String[] { "ELEPHANT", "ELEPHANTS",
+            "ELEMENTS" }, 8));
+        assertEquals(8, index.getWordLength(), "Test word length");
+        assertTrue(index.contains("ELEPHANT"), "Test contains ELEPHANT");
+        assertFalse(index.contains("ELEPHANTS"), "Test does not contain nine letter word");
+        assertEquals(1 << 'M' - 'A' | 1 << 'P' - 'A', index.nextLetters(index.find("ELE")),
+                "Test letters after ELE");
+    }
+}
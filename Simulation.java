@@ -0,0 +1,176 @@
+package Project4.src;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public final class Simulation {
+
+    /**
+     * the lexicon every simulated game uses.
+     */
+    private final Lexicon lexicon;
+
+    /**
+     * the strategy that chooses each guess.
+     */
+    private final Strategy strategy;
+
+    /**
+     * the number of guesses each simulated game allows.
+     */
+    private final int rows;
+
+    /**
+     * the metrics the simulated games record into, kept apart from the
+     * default metrics so simulations do not show up as live games.
+     */
+    private final WolfleMetrics metrics;
+
+    /**
+     * constructs a Simulation that plays games of Wolfle.ROWS guesses from the
+     * given lexicon with the given strategy. The strategy is called from many
+     * threads at once and must be thread-safe.
+     *
+     * @param lexicon  is the lexicon for every game.
+     * @param strategy is the strategy that plays the games.
+     * @throws IllegalArgumentException if the lexicon or strategy is null.
+     */
+    public Simulation(Lexicon lexicon, Strategy strategy) {
+        this(lexicon, strategy, Wolfle.ROWS);
+    }
+
+    /**
+     * constructs a Simulation that plays games of the given number of guesses
+     * from the given lexicon with the given strategy. The words have the
+     * lexicon's length. The strategy is called from many threads at once and
+     * must be thread-safe.
+     *
+     * @param lexicon  is the lexicon for every game.
+     * @param strategy is the strategy that plays the games.
+     * @param rows     is the number of guesses each game allows.
+     * @throws IllegalArgumentException if the lexicon or strategy is null, or if
+     *                                  rows is not positive.
+     */
+    public Simulation(Lexicon lexicon, Strategy strategy, int rows) {
+        if (lexicon == null) {
+            throw new IllegalArgumentException("Null lexicon");
+        }
+        if (strategy == null) {
+            throw new IllegalArgumentException("Null strategy");
+        }
+        if (rows <= 0) {
+            throw new IllegalArgumentException("Invalid rows");
+        }
+        this.lexicon = lexicon;
+        this.strategy = strategy;
+        this.rows = rows;
+        this.metrics = new WolfleMetrics();
+    }
+
+    /**
+     * returns the metrics the games played by this simulation recorded into.
+     * They are not part of the default WolfleMetrics.
+     *
+     * @return the simulation's metrics.
+     */
+    public WolfleMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * plays one game for every distinct wolfle word in the lexicon.
+     *
+     * @return the result of the games.
+     */
+    public SimulationResult runAll() {
+        WordSet answers = lexicon.getWolfleWords();
+        String[] secrets = new String[answers.size()];
+        for (int i = 0; i < secrets.length; i++) {
+            secrets[i] = WordCode.decodeLong(answers.getLongCode(i), lexicon.getWordLength());
+        }
+        return run(secrets);
+    }
+
+    /**
+     * plays the given number of games with secret words drawn at random, with
+     * repeats, from the lexicon's wolfle words.
+     *
+     * @param games is the number of games to play.
+     * @param seed  is the seed for choosing the secret words.
+     * @return the result of the games.
+     * @throws IllegalArgumentException if games is negative.
+     */
+    public SimulationResult runRandom(int games, long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Invalid games");
+        }
+        WordSet answers = lexicon.getWolfleWords();
+        Random random = new Random(seed);
+        String[] secrets = new String[games];
+        for (int i = 0; i < games; i++) {
+            secrets[i] = WordCode.decodeLong(answers.getLongCode(random.nextInt(answers.size())),
+                    lexicon.getWordLength());
+        }
+        return run(secrets);
+    }
+
+    /**
+     * plays one game for each of the given secret words, spread across all
+     * cores, with no GUI.
+     *
+     * @param secrets is the secret word for each game.
+     * @return the result of the games.
+     * @throws IllegalArgumentException if secrets is null or holds a word that
+     *                                  is not a wolfle word.
+     */
+    public SimulationResult run(String[] secrets) {
+        if (secrets == null) {
+            throw new IllegalArgumentException("Null secrets");
+        }
+        int[] guessesUsed = new int[secrets.length];
+        long start = System.nanoTime();
+        IntStream.range(0, secrets.length).parallel()
+                .forEach(i -> guessesUsed[i] = play(secrets[i]));
+        return new SimulationResult(guessesUsed, rows, System.nanoTime() - start);
+    }
+
+    /**
+     * plays a single game to the end.
+     *
+     * @param secret is the secret word.
+     * @return the guess the game was won on, or 0 if it was lost. A guess the
+     *         game rejects as invalid loses the game.
+     */
+    public int play(String secret) {
+        Wolfle game = new Wolfle(lexicon, rows, secret, false, metrics);
+        for (int row = 0; row < game.getRows(); row++) {
+            if (!game.processGuess(strategy.nextGuess(game, row), row)) {
+                return 0;
+            }
+            if (game.isGameOverCorrectGuess()) {
+                return row + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * plays every wolfle word with the Solver, or N random words if a count is
+     * given, and prints the report.
+     *
+     * @param args args[0] optional number of random games, args[1] optional seed
+     */
+    public static void main(String[] args) {
+        Lexicon lexicon = Lexicon.getDefault();
+        Solver solver = new Solver(lexicon);
+        Simulation simulation = new Simulation(lexicon, (game, row) -> solver.bestGuess(game));
+        if (args.length == 0) {
+            System.out.print(simulation.runAll());
+        } else if (args.length <= 2) {
+            long seed = args.length == 2 ? Long.parseLong(args[1]) : 0;
+            System.out.print(simulation.runRandom(Integer.parseInt(args[0]), seed));
+        } else {
+            System.out.println("Usage: java Project4.src.Simulation [games [seed]]");
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package Project4.src;
+
+public final class SimulationResult {
+
+    /**
+     * the number of games won on each guess; index 0 is unused.
+     */
+    private final int[] wins;
+
+    /**
+     * the number of games that were not won.
+     */
+    private final int losses;
+
+    /**
+     * the wall-clock time the simulation took, in nanoseconds.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * constructs a SimulationResult from the number of guesses each game of
+     * Wolfle.ROWS guesses took.
+     *
+     * @param guessesUsed  is, for each game, the guess it was won on, or 0 if it
+     *                     was lost.
+     * @param elapsedNanos is the wall-clock time the games took.
+     * @throws IllegalArgumentException if a guess number is out of bounds.
+     */
+    public SimulationResult(int[] guessesUsed, long elapsedNanos) {
+        this(guessesUsed, Wolfle.ROWS, elapsedNanos);
+    }
+
+    /**
+     * constructs a SimulationResult from the number of guesses each game took.
+     *
+     * @param guessesUsed  is, for each game, the guess it was won on, or 0 if it
+     *                     was lost.
+     * @param rows         is the number of guesses each game allowed.
+     * @param elapsedNanos is the wall-clock time the games took.
+     * @throws IllegalArgumentException if rows is not positive or a guess number
+     *                                  is out of bounds.
+     */
+    public SimulationResult(int[] guessesUsed, int rows, long elapsedNanos) {
+        if (rows <= 0) {
+            throw new IllegalArgumentException("Invalid rows");
+        }
+        wins = new int[rows + 1];
+        int lost = 0;
+        for (int i = 0; i < guessesUsed.length; i++) {
+            if (guessesUsed[i] == 0) {
+                lost++;
+            } else if (guessesUsed[i] < 0 || guessesUsed[i] > rows) {
+                throw new IllegalArgumentException("Invalid guess");
+            } else {
+                wins[guessesUsed[i]]++;
+            }
+        }
+        this.losses = lost;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * returns the number of guesses each game allowed.
+     *
+     * @return the number of rows.
+     */
+    public int getRows() {
+        return wins.length - 1;
+    }
+
+    /**
+     * returns the number of games played.
+     *
+     * @return the number of games.
+     */
+    public int getGames() {
+        int games = losses;
+        for (int i = 1; i < wins.length; i++) {
+            games += wins[i];
+        }
+        return games;
+    }
+
+    /**
+     * returns the number of games won on the given guess.
+     *
+     * @param guess is the guess number, from 1 to getRows().
+     * @return the number of games won on that guess.
+     * @throws IllegalArgumentException if the guess number is out of bounds.
+     */
+    public int getWins(int guess) {
+        if (guess < 1 || guess >= wins.length) {
+            throw new IllegalArgumentException("Invalid guess");
+        }
+        return wins[guess];
+    }
+
+    /**
+     * returns the number of games that were not won.
+     *
+     * @return the number of losses.
+     */
+    public int getLosses() {
+        return losses;
+    }
+
+    /**
+     * returns the fraction of games that were not won.
+     *
+     * @return the failure rate, from 0 to 1.
+     */
+    public double getFailureRate() {
+        int games = getGames();
+        return games == 0 ? 0 : (double) losses / games;
+    }
+
+    /**
+     * returns the average number of guesses over the games that were won.
+     *
+     * @return the average guess count of wins.
+     */
+    public double getAverageGuesses() {
+        long total = 0;
+        int won = 0;
+        for (int i = 1; i < wins.length; i++) {
+            total += (long) i * wins[i];
+            won += wins[i];
+        }
+        return won == 0 ? 0 : (double) total / won;
+    }
+
+    /**
+     * returns the number of games played per second of wall-clock time.
+     *
+     * @return the throughput of the simulation.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getGames() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * converts this result to a report of the guess distribution, failure rate
+     * and throughput.
+     *
+     * @return a multi-line report.
+     */
+    @Override
+    public String toString() {
+        String result = "Games: " + getGames() + "\n";
+        for (int i = 1; i < wins.length; i++) {
+            result = result + i + ": " + wins[i] + "\n";
+        }
+        result = result + "X: " + losses + "\n";
+        result = result + String.format("Average guesses: %.3f%n", getAverageGuesses());
+        result = result + String.format("Failure rate: %.4f%n", getFailureRate());
+        result = result + String.format("Games/second: %.1f%n", getGamesPerSecond());
+        return result;
+    }
+}
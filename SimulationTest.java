@@ -0,0 +1,116 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import Project4.src.Lexicon;
+import Project4.src.Simulation;
+import Project4.src.SimulationResult;
+import Project4.src.WolfleMetrics;
+
+/**
+ * Tests Simulation class
+ *
+ * @author Roshni Desai
+ */
+public class SimulationTest {
+
+    /**
+     * Test a strategy that always guesses the secret wins on the first guess
+     */
+    @Test
+    public void testRunWithPerfectStrategy() {
+        Simulation simulation = new Simulation(Lexicon.getDefault(),
+                (game, row) -> game.getSecretWord());
+        SimulationResult result = simulation.runAll();
+        assertEquals(Lexicon.getDefault().getWolfleWords().size(), result.getGames(),
+                "Test one game per wolfle word");
+        assertEquals(result.getGames(), result.getWins(1), "Test every game won on guess 1");
+        assertEquals(0, result.getLosses(), "Test no losses");
+        assertEquals(1.0, result.getAverageGuesses(), 1e-9, "Test average guesses");
+        assertTrue(result.getGamesPerSecond() > 0, "Test games per second");
+    }
+
+    /**
+     * Test a strategy that never guesses the secret loses every game
+     */
+    @Test
+    public void testRunWithLosingStrategy() {
+        Simulation simulation = new Simulation(Lexicon.getDefault(),
+                (game, row) -> game.getSecretWord().equals("EAGLE") ? "ELEGY" : "EAGLE");
+        SimulationResult result = simulation.runRandom(50, 1);
+        assertEquals(50, result.getGames(), "Test number of random games");
+        assertEquals(50, result.getLosses(), "Test every game lost");
+        assertEquals(1.0, result.getFailureRate(), 1e-9, "Test failure rate");
+        assertEquals(0, new Simulation(Lexicon.getDefault(), (game, row) -> "NOTIT").play("ELEGY"),
+                "Test invalid guess loses the game");
+    }
+
+    /**
+     * Test a simulation of four letter words with three guesses per game
+     */
+    @Test
+    public void testRunFourLettersCustomRows() {
+        Lexicon lexicon = new Lexicon(new String[] { "WOLF", "PACK", "HOWL" },
+                new String[] { "WOLF", "HOWL" }, 4);
+        Simulation simulation = new Simulation(lexicon,
+                (game, row) -> row == 2 ? game.getSecretWord() : "PACK", 3);
+        SimulationResult result = simulation.runAll();
+        assertEquals(3, result.getRows(), "Test rows of result");
+        assertEquals(2, result.getGames(), "Test one game per wolfle word");
+        assertEquals(2, result.getWins(3), "Test every game won on guess 3");
+        assertEquals(3.0, result.getAverageGuesses(), 1e-9, "Test average guesses");
+        assertEquals(2, simulation.runRandom(2, 1).getWins(3), "Test random four letter games");
+        assertEquals(0, new Simulation(lexicon, (game, row) -> "PACK", 3).play("WOLF"),
+                "Test game lost after three guesses");
+        Exception e = assertThrows(IllegalArgumentException.class, () -> result.getWins(4));
+        assertEquals("Invalid guess", e.getMessage(), "getWins Invalid guess message");
+    }
+
+    /**
+     * Test simulated games record into the simulation's metrics and not the
+     * default ones
+     */
+    @Test
+    public void testMetrics() {
+        Simulation simulation = new Simulation(Lexicon.getDefault(),
+                (game, row) -> game.getSecretWord());
+        long created = WolfleMetrics.getDefault().getGamesCreated();
+        long processed = WolfleMetrics.getDefault().getGuessesProcessed();
+        long wins = WolfleMetrics.getDefault().getWins();
+        SimulationResult result = simulation.runRandom(20, 3);
+        assertEquals(created, WolfleMetrics.getDefault().getGamesCreated(),
+                "Test no live games created");
+        assertEquals(processed, WolfleMetrics.getDefault().getGuessesProcessed(),
+                "Test no live guesses processed");
+        assertEquals(wins, WolfleMetrics.getDefault().getWins(), "Test no live wins");
+        assertEquals(result.getGames(), simulation.getMetrics().getGamesCreated(),
+                "Test simulated games counted in simulation metrics");
+        assertEquals(result.getGames(), simulation.getMetrics().getWins(),
+                "Test simulated wins counted in simulation metrics");
+    }
+
+    /**
+     * Test the Simulation methods with invalid values
+     */
+    @Test
+    public void testExceptions() {
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> new Simulation(Lexicon.getDefault(), null));
+        assertEquals("Null strategy", e.getMessage(), "Simulation Null strategy message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> new Simulation(null, (game, row) -> "EAGLE"));
+        assertEquals("Null lexicon", e.getMessage(), "Simulation Null lexicon message");
+        Simulation simulation = new Simulation(Lexicon.getDefault(), (game, row) -> "EAGLE");
+        e = assertThrows(IllegalArgumentException.class, () -> simulation.runRandom(-1, 0));
+        assertEquals("Invalid games", e.getMessage(), "runRandom Invalid games message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> simulation.runRandom(1, 0).getWins(0));
+        assertEquals("Invalid guess", e.getMessage(), "getWins Invalid guess message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> new Simulation(Lexicon.getDefault(), (game, row) -> "EAGLE", 0));
+        assertEquals("Invalid rows", e.getMessage(), "Simulation Invalid rows message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> new SimulationResult(new int[] { 4 }, 3, 0));
+        assertEquals("Invalid guess", e.getMessage(), "SimulationResult Invalid guess message");
+    }
+}
@@ -0,0 +1,315 @@
+package Project4.src;
+
+import java.util.concurrent.CancellationException;
+import java.util.stream.IntStream;
+
+public final class Solver {
+
+    /**
+     * the number of guesses scored between progress reports and checks for
+     * cancellation.
+     */
+    public static final int BATCH = 512;
+
+    /**
+     * the lexicon whose valid words are scored against its wolfle words.
+     */
+    private final Lexicon lexicon;
+
+    /**
+     * the index of the best opening guess, or -1 until it is first computed.
+     * The opening does not depend on the game, so it is computed once; a
+     * cancelled search leaves it unset.
+     */
+    private volatile int openingGuess;
+
+    /**
+     * per-thread scratch space for scoring guesses.
+     */
+    private final ThreadLocal<Scratch> scratch;
+
+    /**
+     * constructs a Solver for the given lexicon. A Solver is thread-safe and is
+     * meant to be shared by every game that uses the lexicon.
+     *
+     * @param lexicon is the lexicon of valid guesses and possible answers.
+     * @throws IllegalArgumentException if the lexicon is null.
+     */
+    public Solver(Lexicon lexicon) {
+        if (lexicon == null) {
+            throw new IllegalArgumentException("Null lexicon");
+        }
+        this.lexicon = lexicon;
+        this.openingGuess = -1;
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(lexicon.getWordLength()));
+    }
+
+    /**
+     * returns the guess that is expected to reveal the most information about
+     * the secret word, given the guesses already recorded in the game's grid.
+     *
+     * @param game is the game to solve.
+     * @return the best next guess.
+     * @throws IllegalArgumentException if the game is null or no wolfle word is
+     *                                  consistent with its grid.
+     */
+    public String bestGuess(Wolfle game) {
+        int[] remaining = remainingAnswers(game);
+        if (remaining.length == 0) {
+            throw new IllegalArgumentException("No consistent answers");
+        }
+        int guessIndex = bestGuess(remaining);
+        return WordCode.decodeLong(lexicon.getValidWords().getLongCode(guessIndex),
+                lexicon.getWordLength());
+    }
+
+    /**
+     * returns the indexes of the wolfle words that would have produced every
+     * row of feedback recorded in the game's grid. When the game uses the same
+     * words as this Solver, its incrementally maintained candidates are used
+     * instead of replaying the grid.
+     *
+     * @param game is the game whose grid is read.
+     * @return the indexes, into the lexicon's wolfle words, of the answers that
+     *         are still possible.
+     * @throws IllegalArgumentException if the game is null.
+     */
+    public int[] remainingAnswers(Wolfle game) {
+        if (game == null) {
+            throw new IllegalArgumentException("Null game");
+        }
+        if (game.getLexicon().getWolfleWords() == lexicon.getWolfleWords()) {
+            return toIndexes(game.remainingCandidates(), game.remainingCount());
+        }
+
+        WordSet answers = lexicon.getWolfleWords();
+        int[] remaining = new int[answers.size()];
+        for (int i = 0; i < remaining.length; i++) {
+            remaining[i] = i;
+        }
+        int count = remaining.length;
+
+        Feedback feedback = scratch.get().feedback;
+        for (int row = 0; row < game.getRows(); row++) {
+            if (game.getGridLetterStatus(row, 0) == Letter.Status.NOT_GUESSED) {
+                break;
+            }
+            long guessCode = 0;
+            int pattern = 0;
+            for (int col = 0; col < game.getCols(); col++) {
+                long letter = game.getGridLetter(row, col) - Letter.FIRST_LETTER;
+                guessCode |= letter << (col * WordCode.BITS_PER_LETTER);
+                pattern += Feedback.place(col, Feedback.digitOf(game.getGridLetterStatus(row, col)));
+            }
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                if (feedback.evaluate(guessCode, answers.getLongCode(remaining[i])) == pattern) {
+                    remaining[kept] = remaining[i];
+                    kept++;
+                }
+            }
+            count = kept;
+        }
+
+        int[] result = new int[count];
+        System.arraycopy(remaining, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * lists the indexes of the set bits of a bitset.
+     *
+     * @param bits  is the bitset.
+     * @param count is the number of set bits.
+     * @return the indexes in ascending order.
+     */
+    private static int[] toIndexes(long[] bits, int count) {
+        int[] indexes = new int[count];
+        int next = 0;
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                indexes[next] = (w << 6) + Long.numberOfTrailingZeros(word);
+                next++;
+                word &= word - 1;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * returns the index of the valid word that maximizes the expected
+     * information (the entropy of the feedback pattern) over the remaining
+     * answers. Guesses are scored in parallel on all cores. Ties go to a guess
+     * that could itself be the answer, then to the lowest index. The opening
+     * guess, with every answer remaining, is only computed once.
+     *
+     * @param remaining is the indexes of the wolfle words still possible.
+     * @return the index, into the lexicon's valid words, of the best guess.
+     * @throws IllegalArgumentException if remaining is null or empty.
+     */
+    public int bestGuess(int[] remaining) {
+        return bestGuess(remaining, null);
+    }
+
+    /**
+     * returns the best guess like bestGuess(int[]), scoring the guesses in
+     * batches of BATCH. After each batch the best guess so far is reported to
+     * the progress, and the search stops if the progress is cancelled.
+     *
+     * @param remaining is the indexes of the wolfle words still possible.
+     * @param progress  is told about the search and can cancel it, or null.
+     * @return the index, into the lexicon's valid words, of the best guess.
+     * @throws IllegalArgumentException if remaining is null or empty.
+     * @throws CancellationException    if the progress cancelled the search.
+     */
+    public int bestGuess(int[] remaining, SolverProgress progress) {
+        if (remaining == null || remaining.length == 0) {
+            throw new IllegalArgumentException("No consistent answers");
+        }
+        WordSet guesses = lexicon.getValidWords();
+        WordSet answers = lexicon.getWolfleWords();
+        if (remaining.length == answers.size() && openingGuess >= 0) {
+            report(progress, openingGuess, guesses.size());
+            return openingGuess;
+        }
+        if (remaining.length <= 2) {
+            int answerGuess = guesses.indexOf(answers.getLongCode(remaining[0]));
+            if (answerGuess >= 0) {
+                report(progress, answerGuess, guesses.size());
+                return answerGuess;
+            }
+        }
+
+        double[] nLogN = new double[remaining.length + 1];
+        for (int n = 2; n <= remaining.length; n++) {
+            nLogN[n] = n * Math.log(n);
+        }
+        boolean[] isCandidate = new boolean[guesses.size()];
+        for (int i = 0; i < remaining.length; i++) {
+            int candidate = guesses.indexOf(answers.getLongCode(remaining[i]));
+            if (candidate >= 0) {
+                isCandidate[candidate] = true;
+            }
+        }
+
+        double[] scores = new double[guesses.size()];
+        int best = 0;
+        for (int start = 0; start < scores.length; start += BATCH) {
+            if (progress != null && progress.isCancelled()) {
+                throw new CancellationException("Search cancelled");
+            }
+            int end = Math.min(scores.length, start + BATCH);
+            IntStream.range(start, end).parallel()
+                    .forEach(g -> scores[g] = spread(g, remaining, nLogN));
+            for (int g = Math.max(1, start); g < end; g++) {
+                if (scores[g] < scores[best] || (scores[g] == scores[best] && isCandidate[g]
+                        && !isCandidate[best])) {
+                    best = g;
+                }
+            }
+            if (progress != null) {
+                progress.bestSoFar(best, end, scores.length);
+            }
+        }
+        if (remaining.length == answers.size()) {
+            openingGuess = best;
+        }
+        return best;
+    }
+
+    /**
+     * reports a finished search to a progress, if there is one.
+     *
+     * @param progress   is the progress, or null.
+     * @param guessIndex is the best guess.
+     * @param total      is the number of guesses.
+     */
+    private static void report(SolverProgress progress, int guessIndex, int total) {
+        if (progress != null) {
+            progress.bestSoFar(guessIndex, total, total);
+        }
+    }
+
+    /**
+     * returns the expected information, in bits, of a guess over the remaining
+     * answers.
+     *
+     * @param guessIndex is the index of the guess in the lexicon's valid words.
+     * @param remaining  is the indexes of the wolfle words still possible.
+     * @return the entropy of the guess's feedback pattern.
+     */
+    public double expectedInformation(int guessIndex, int[] remaining) {
+        double[] nLogN = new double[remaining.length + 1];
+        for (int n = 2; n <= remaining.length; n++) {
+            nLogN[n] = n * Math.log(n);
+        }
+        double total = remaining.length;
+        return (Math.log(total) - spread(guessIndex, remaining, nLogN) / total) / Math.log(2);
+    }
+
+    /**
+     * returns the sum of n log n over the sizes n of the groups the guess splits
+     * the remaining answers into. Lower is better: with the number of answers
+     * fixed, minimizing this maximizes the entropy of the feedback.
+     *
+     * @param guessIndex is the index of the guess in the lexicon's valid words.
+     * @param remaining  is the indexes of the wolfle words still possible.
+     * @param nLogN      is n log n for every n up to remaining.length.
+     * @return the spread of the guess.
+     */
+    private double spread(int guessIndex, int[] remaining, double[] nLogN) {
+        Scratch local = scratch.get();
+        int[] counts = local.counts;
+        FeedbackMatrix matrix = lexicon.getFeedbackMatrix();
+        if (matrix != null) {
+            for (int i = 0; i < remaining.length; i++) {
+                counts[matrix.pattern(guessIndex, remaining[i])]++;
+            }
+        } else if (WordCode.fitsInt(lexicon.getWordLength())) {
+            int guessCode = lexicon.getValidWords().getCode(guessIndex);
+            WordSet answers = lexicon.getWolfleWords();
+            for (int i = 0; i < remaining.length; i++) {
+                counts[local.feedback.evaluate(guessCode, answers.getCode(remaining[i]))]++;
+            }
+        } else {
+            long guessCode = lexicon.getValidWords().getLongCode(guessIndex);
+            WordSet answers = lexicon.getWolfleWords();
+            for (int i = 0; i < remaining.length; i++) {
+                counts[local.feedback.evaluate(guessCode, answers.getLongCode(remaining[i]))]++;
+            }
+        }
+        double sum = 0;
+        for (int p = 0; p < counts.length; p++) {
+            sum += nLogN[counts[p]];
+            counts[p] = 0;
+        }
+        return sum;
+    }
+
+    /**
+     * scratch space owned by one thread.
+     */
+    private static final class Scratch {
+
+        /**
+         * the evaluator for this thread.
+         */
+        private final Feedback feedback;
+
+        /**
+         * the number of remaining answers giving each pattern.
+         */
+        private final int[] counts;
+
+        /**
+         * constructs scratch space for words of the given length.
+         *
+         * @param wordLength is the number of letters in every word.
+         */
+        private Scratch(int wordLength) {
+            this.feedback = new Feedback(wordLength);
+            this.counts = new int[Feedback.patternCount(wordLength)];
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package Project4.src;
+
+public interface SolverProgress {
+
+    /**
+     * returns whether the search should stop. It is checked between batches
+     * of guesses.
+     *
+     * @return true to cancel the search.
+     */
+    boolean isCancelled();
+
+    /**
+     * reports the best guess among those scored so far. It is called on the
+     * searching thread after each batch of guesses.
+     *
+     * @param guessIndex is the index, into the lexicon's valid words, of the
+     *                   best guess so far.
+     * @param scored     is the number of guesses scored so far.
+     * @param total      is the number of guesses to score.
+     */
+    void bestSoFar(int guessIndex, int scored, int total);
+}
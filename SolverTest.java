@@ -0,0 +1,167 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+import Project4.src.Lexicon;
+import Project4.src.Solver;
+import Project4.src.SolverProgress;
+import Project4.src.Wolfle;
+import Project4.src.WordCode;
+
+/**
+ * Tests Solver class
+ *
+ * @author Roshni Desai
+ */
+public class SolverTest {
+
+    /**
+     * Test remainingAnswers narrows to words consistent with the grid
+     */
+    @Test
+    public void testRemainingAnswers() {
+        Lexicon lexicon = Lexicon.getDefault();
+        Solver solver = new Solver(lexicon);
+        Wolfle wolfle = new Wolfle(lexicon, "ELEGY");
+        assertEquals(lexicon.getWolfleWords().size(), solver.remainingAnswers(wolfle).length,
+                "Test every answer remains before guessing");
+
+        wolfle.processGuess("RANGE", 0);
+        int[] remaining = solver.remainingAnswers(wolfle);
+        assertTrue(remaining.length < lexicon.getWolfleWords().size(), "Test answers narrowed");
+        boolean foundSecret = false;
+        for (int i = 0; i < remaining.length; i++) {
+            if (lexicon.getWolfleWords().getCode(remaining[i]) == WordCode.encode("ELEGY")) {
+                foundSecret = true;
+            }
+        }
+        assertTrue(foundSecret, "Test secret word remains");
+    }
+
+    /**
+     * Test bestGuess plays a valid word and finds the secret once it is forced
+     */
+    @Test
+    public void testBestGuess() {
+        Lexicon lexicon = Lexicon.getDefault();
+        Solver solver = new Solver(lexicon);
+        Wolfle wolfle = new Wolfle(lexicon, "ELEGY");
+        wolfle.processGuess("RANGE", 0);
+        int row = 1;
+        while (!wolfle.isGameOverCorrectGuess() && !wolfle.isGameOverNoMoreGuesses()) {
+            String guess = solver.bestGuess(wolfle);
+            assertTrue(lexicon.isValidWord(guess), "Test bestGuess is a valid word");
+            wolfle.processGuess(guess, row);
+            row++;
+        }
+        assertTrue(wolfle.isGameOverCorrectGuess(), "Test solver finds ELEGY");
+    }
+
+    /**
+     * Test progress is reported after each batch and ends on the best guess
+     */
+    @Test
+    public void testProgress() {
+        Lexicon lexicon = Lexicon.getDefault();
+        Solver solver = new Solver(lexicon);
+        Wolfle wolfle = new Wolfle(lexicon, "ELEGY");
+        wolfle.processGuess("RANGE", 0);
+        int[] remaining = solver.remainingAnswers(wolfle);
+        List<int[]> reports = new ArrayList<int[]>();
+        int best = solver.bestGuess(remaining, new SolverProgress() {
+            public boolean isCancelled() {
+                return false;
+            }
+
+            public void bestSoFar(int guessIndex, int scored, int total) {
+                reports.add(new int[] { guessIndex, scored, total });
+            }
+        });
+        int guesses = lexicon.getValidWords().size();
+        assertEquals((guesses + Solver.BATCH - 1) / Solver.BATCH, reports.size(),
+                "Test one report per batch");
+        assertEquals(Solver.BATCH, reports.get(0)[1], "Test first batch scored");
+        int[] last = reports.get(reports.size() - 1);
+        assertArrayEquals(new int[] { best, guesses, guesses }, last, "Test last report");
+        assertEquals(best, solver.bestGuess(remaining), "Test same guess without progress");
+    }
+
+    /**
+     * Test a cancelled search stops and does not cache the opening guess
+     */
+    @Test
+    public void testCancel() {
+        Lexicon lexicon = Lexicon.getDefault();
+        Solver solver = new Solver(lexicon);
+        int[] all = solver.remainingAnswers(new Wolfle(lexicon, "ELEGY"));
+        int[] reports = new int[1];
+        SolverProgress cancelAfterOne = new SolverProgress() {
+            public boolean isCancelled() {
+                return reports[0] > 0;
+            }
+
+            public void bestSoFar(int guessIndex, int scored, int total) {
+                reports[0]++;
+            }
+        };
+        assertThrows(CancellationException.class, () -> solver.bestGuess(all, cancelAfterOne));
+        assertEquals(1, reports[0], "Test search stopped after first batch");
+
+        reports[0] = 0;
+        assertThrows(CancellationException.class, () -> solver.bestGuess(all, cancelAfterOne),
+                "Test opening not cached by cancelled search");
+    }
+
+    /**
+     * Test expectedInformation for a guess that splits answers and one that does not
+     */
+    @Test
+    public void testExpectedInformation() {
+        Lexicon lexicon = Lexicon.getDefault();
+        Solver solver = new Solver(lexicon);
+        int[] two = { lexicon.getWolfleWords().indexOf(WordCode.encode("ELEGY")),
+            lexicon.getWolfleWords().indexOf(WordCode.encode("EAGLE")) };
+        int elegy = lexicon.getValidWords().indexOf(WordCode.encode("ELEGY"));
+        int churn = lexicon.getValidWords().indexOf(WordCode.encode("CHURN"));
+        assertEquals(1.0, solver.expectedInformation(elegy, two), 1e-9,
+                "Test guess that separates two answers gives one bit");
+        assertEquals(0.0, solver.expectedInformation(churn, two), 1e-9,
+                "Test guess that cannot separate answers gives no information");
+    }
+
+    /**
+     * Test the Solver methods with invalid values
+     */
+    @Test
+    public void testExceptions() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> new Solver(null));
+        assertEquals("Null lexicon", e.getMessage(), "Solver Null lexicon message");
+        Solver solver = new Solver(Lexicon.getDefault());
+        e = assertThrows(IllegalArgumentException.class, () -> solver.remainingAnswers(null));
+        assertEquals("Null game", e.getMessage(), "remainingAnswers Null game message");
+        e = assertThrows(IllegalArgumentException.class, () -> solver.bestGuess(new int[0]));
+        assertEquals("No consistent answers", e.getMessage(), "bestGuess empty message");
+    }
+
+    /**
+     * Test the solver on eight letter words, which have no int codes
+     */
+    @Test
+    public void testEightLetters() {
+        String[] words = { "ELEPHANT", "ASSESSES", "SESSIONS", "ABSOLUTE", "ADVOCATE" };
+        Lexicon lexicon = new Lexicon(words, words, 8);
+        Solver solver = new Solver(lexicon);
+        Wolfle wolfle = new Wolfle(lexicon, 6, "ADVOCATE", false);
+        assertTrue(wolfle.processGuess("ABSOLUTE", 0), "Test first guess");
+        assertEquals(wolfle.remainingCount(), solver.remainingAnswers(wolfle).length,
+                "Test remaining answers from the game's candidates");
+        Solver other = new Solver(new Lexicon(words, words, 8));
+        assertEquals(wolfle.remainingCount(), other.remainingAnswers(wolfle).length,
+                "Test remaining answers from the grid");
+        assertTrue(lexicon.isValidWord(solver.bestGuess(wolfle)), "Test bestGuess is a valid word");
+    }
+}
@@ -0,0 +1,13 @@
+package Project4.src;
+
+public interface Strategy {
+
+    /**
+     * chooses the next word to guess in a game that is not over.
+     *
+     * @param game is the game being played.
+     * @param row  is the grid row the guess will be recorded in.
+     * @return the word to guess.
+     */
+    String nextGuess(Wolfle game, int row);
+}
@@ -0,0 +1,121 @@
+package Project4.src;
+
+/**
+ * an immutable letter and status pair. There are only 27 characters (A-Z and
+ * '_') and four statuses, so every Tile is one of 108 shared instances made
+ * when the class loads. Tile.of never allocates, and two Tiles are equal only
+ * if they are the same object.
+ */
+public final class Tile {
+
+    /**
+     * the number of characters a Tile can hold: '_' and A-Z.
+     */
+    private static final int LETTERS = Letter.LAST_LETTER - Letter.FIRST_LETTER + 2;
+
+    /**
+     * the statuses, cached so that of() does not copy Status.values().
+     */
+    private static final Letter.Status[] STATUSES = Letter.Status.values();
+
+    /**
+     * the shared Tiles, indexed by letter (0 for '_', 1 to 26 for A-Z) times
+     * the number of statuses plus the status ordinal.
+     */
+    private static final Tile[] TILES = new Tile[LETTERS * STATUSES.length];
+
+    static {
+        for (int i = 0; i < LETTERS; i++) {
+            char letter = i == 0 ? '_' : (char) (Letter.FIRST_LETTER + i - 1);
+            for (Letter.Status status : STATUSES) {
+                TILES[i * STATUSES.length + status.ordinal()] = new Tile(letter, status);
+            }
+        }
+    }
+
+    /**
+     * the character of this Tile, A-Z or '_'.
+     */
+    private final char letter;
+
+    /**
+     * the status of this Tile.
+     */
+    private final Letter.Status status;
+
+    /**
+     * constructor used only to fill the shared table.
+     *
+     * @param letter is the character of the Tile.
+     * @param status is the status of the Tile.
+     */
+    private Tile(char letter, Letter.Status status) {
+        this.letter = letter;
+        this.status = status;
+    }
+
+    /**
+     * returns the shared Tile for a character and status.
+     *
+     * @param letter is the character, A-Z or '_'.
+     * @param status is the status.
+     * @return the Tile for the character and status.
+     * @throws IllegalArgumentException if the letter is not A-Z or '_' or the
+     *                                  status is null.
+     */
+    public static Tile of(char letter, Letter.Status status) {
+        int index;
+        if (letter >= Letter.FIRST_LETTER && letter <= Letter.LAST_LETTER) {
+            index = letter - Letter.FIRST_LETTER + 1;
+        } else if (letter == '_') {
+            index = 0;
+        } else {
+            throw new IllegalArgumentException("Invalid letter");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Invalid status");
+        }
+        return TILES[index * STATUSES.length + status.ordinal()];
+    }
+
+    /**
+     * gets the character for this Tile.
+     *
+     * @return the character, A-Z or '_'.
+     */
+    public char getLetter() {
+        return letter;
+    }
+
+    /**
+     * gets the status for this Tile.
+     *
+     * @return the status of this Tile.
+     */
+    public Letter.Status getStatus() {
+        return status;
+    }
+
+    /**
+     * returns a new Letter with the character and status of this Tile, for
+     * callers that still need a Letter.
+     *
+     * @return a new Letter equal in value to this Tile.
+     */
+    public Letter toLetter() {
+        Letter result = new Letter(letter);
+        result.setStatus(status);
+        return result;
+    }
+
+    /**
+     * converts this Tile to a string representation
+     *
+     * @return a string consisting of the letter followed by a space and the
+     *         status, like "A NOT_GUESSED"
+     */
+    @Override
+    public String toString() {
+        return letter + " " + status;
+    }
+}
@@ -0,0 +1,75 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import Project4.src.Letter;
+import Project4.src.Tile;
+
+/**
+ * Tests Tile class
+ *
+ * @author Roshni Desai
+ */
+public class TileTest {
+
+    /**
+     * Test that of returns one shared Tile for each letter and status
+     */
+    @Test
+    public void testOfIsShared() {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            for (Letter.Status status : Letter.Status.values()) {
+                Tile tile = Tile.of(c, status);
+                assertSame(tile, Tile.of(c, status), "Test same Tile for " + c + " " + status);
+                assertEquals(c, tile.getLetter(), "Test getLetter for " + c);
+                assertEquals(status, tile.getStatus(), "Test getStatus for " + c);
+            }
+        }
+        Tile blank = Tile.of('_', Letter.Status.NOT_GUESSED);
+        assertSame(blank, Tile.of('_', Letter.Status.NOT_GUESSED), "Test same blank Tile");
+        assertEquals('_', blank.getLetter(), "Test blank getLetter");
+    }
+
+    /**
+     * Test that Tiles are equal only when they are the same letter and status
+     */
+    @Test
+    public void testEquals() {
+        Tile tile = Tile.of('H', Letter.Status.IN_WORD);
+        assertEquals(tile, Tile.of('H', Letter.Status.IN_WORD), "Test equal Tiles");
+        assertNotEquals(tile, Tile.of('H', Letter.Status.IN_POSITION), "Test different status");
+        assertNotEquals(tile, Tile.of('X', Letter.Status.IN_WORD), "Test different letter");
+        assertNotEquals(tile, null, "Test Tile with null");
+        assertNotEquals(tile, tile.toLetter(), "Test Tile with Letter");
+    }
+
+    /**
+     * Test toString and toLetter
+     */
+    @Test
+    public void testToStringAndToLetter() {
+        Tile tile = Tile.of('H', Letter.Status.IN_POSITION);
+        assertEquals("H IN_POSITION", tile.toString(), "Test toString");
+        Letter letter = tile.toLetter();
+        assertEquals('H', letter.getLetter(), "Test toLetter letter");
+        assertEquals(Letter.Status.IN_POSITION, letter.getStatus(), "Test toLetter status");
+        letter.setStatus(Letter.Status.NOT_IN_WORD);
+        assertEquals(Letter.Status.IN_POSITION, tile.getStatus(), "Test Tile unchanged by its Letter");
+    }
+
+    /**
+     * Test of with an invalid letter or status
+     */
+    @Test
+    public void testOfInvalid() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> Tile.of('a', Letter.Status.IN_WORD), "Test lowercase letter");
+        assertEquals("Invalid letter", exception.getMessage(), "Test lowercase letter message");
+        exception = assertThrows(IllegalArgumentException.class,
+                () -> Tile.of('[', Letter.Status.IN_WORD), "Test letter after Z");
+        assertEquals("Invalid letter", exception.getMessage(), "Test letter after Z message");
+        exception = assertThrows(IllegalArgumentException.class,
+                () -> Tile.of('H', null), "Test null status");
+        assertEquals("Invalid status", exception.getMessage(), "Test null status message");
+    }
+}
@@ -1,27 +1,86 @@
 package Project4.src;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.Scanner;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Wolfle {
 
+    /**
+     * the default number of guesses and letters per word.
+     */
     public static final int ROWS = 6;
     public static final int COLS = 5;
 
+    /**
+     * the metrics games record into unless they are given others.
+     */
+    private static final WolfleMetrics METRICS = WolfleMetrics.getDefault();
+
     private Alphabet alphabet;
     private Grid grid;
     private String secretWord;
+    private long secretCode;
+    private Feedback feedback;
     private boolean isGameOverCorrectGuess;
     private boolean isGameOverNoMoreGuesses;
-    private String[] validWords;
-    private String[] wolfleWords;
+    private Lexicon lexicon;
+
+    /**
+     * the number of guesses allowed and the number of letters per word.
+     */
+    private final int rows;
+    private final int cols;
+
+    /**
+     * the metrics this game records into.
+     */
+    private WolfleMetrics metrics;
+
+    /**
+     * one bit per wolfle word (in lexicon order) still consistent with every
+     * guess processed so far, or null until the first valid guess.
+     */
+    private long[] candidates;
+    private int remainingCount;
+
+    /**
+     * the feedback pattern of the last guess processGuess accepted, or -1.
+     */
+    private int lastPattern = -1;
+
+    /**
+     * whether guesses must use every letter revealed so far.
+     */
+    private boolean hardMode;
+
+    /**
+     * the listeners told about every accepted guess.
+     */
+    private final List<WolfleListener> listeners = new CopyOnWriteArrayList<WolfleListener>();
+
+    /**
+     * the long WordCode bits of the columns revealed IN_POSITION, and the
+     * letters those columns must hold.
+     */
+    private long positionMask;
+    private long positionCode;
+
+    /**
+     * at index k, one bit per alphabet index for the letters a hard mode guess
+     * must contain at least k + 1 times. A word holds a letter at most cols
+     * times, so there is one level per column.
+     */
+    private final int[] required;
 
     /**
-     * constructs a Wolfle game with the given secret word. Initializes the
-     * alphabet, grid, and game state. Loads the valid words and wolfle words
-     * from files. If the secret word is empty, selects a random word from
-     * wolfleWords.
+     * scratch space for the levels of one guess, laid out like required.
+     */
+    private final int[] levels;
+
+    /**
+     * constructs a Wolfle game with the given secret word using the shared
+     * default lexicon. The word files are only read the first time a game is
+     * created in this JVM.
      *
      * @param secretWordForTesting is the secret word to use for testing. If
      *                             empty, a random word from wolfleWords is used.
@@ -29,73 +88,160 @@ public class Wolfle {
      *                                  cannot be accessed.
      */
     public Wolfle(String secretWordForTesting) {
+        this(Lexicon.getDefault(), secretWordForTesting);
+    }
+
+    /**
+     * constructs a Wolfle game with the given lexicon and secret word.
+     * Initializes the alphabet, grid, and game state. No files are read. If the
+     * secret word is empty, selects a random word from the lexicon's wolfle
+     * words.
+     *
+     * @param lexicon              is the lexicon of valid and wolfle words.
+     * @param secretWordForTesting is the secret word to use for testing. If
+     *                             empty, a random word from wolfleWords is used.
+     * @throws IllegalArgumentException if the lexicon is null or the secret
+     *                                  word is invalid.
+     */
+    public Wolfle(Lexicon lexicon, String secretWordForTesting) {
+        this(lexicon, secretWordForTesting, false);
+    }
+
+    /**
+     * constructs a Wolfle game with the given lexicon and secret word, in hard
+     * mode if requested. In hard mode every guess must keep each IN_POSITION
+     * letter in its column and reuse each IN_WORD letter revealed so far.
+     *
+     * @param lexicon              is the lexicon of valid and wolfle words.
+     * @param secretWordForTesting is the secret word to use for testing. If
+     *                             empty, a random word from wolfleWords is used.
+     * @param hardMode             is true to play in hard mode.
+     * @throws IllegalArgumentException if the lexicon is null or the secret
+     *                                  word is invalid.
+     */
+    public Wolfle(Lexicon lexicon, String secretWordForTesting, boolean hardMode) {
+        this(lexicon, ROWS, secretWordForTesting, hardMode);
+    }
+
+    /**
+     * constructs a Wolfle game of words of the given length with the given
+     * number of guesses. The lexicon shard for the length is read the first
+     * time a game of that length is created in this JVM.
+     *
+     * @param wordLength           is the number of letters per word.
+     * @param rows                 is the number of guesses allowed.
+     * @param secretWordForTesting is the secret word to use for testing. If
+     *                             empty, a random word from wolfleWords is used.
+     * @throws IllegalArgumentException if the length or number of rows is
+     *                                  invalid, the secret word is invalid, or
+     *                                  the files cannot be accessed.
+     */
+    public Wolfle(int wordLength, int rows, String secretWordForTesting) {
+        this(Lexicon.forLength(wordLength), rows, secretWordForTesting, false);
+    }
+
+    /**
+     * constructs a Wolfle game with the given lexicon, number of guesses and
+     * secret word, in hard mode if requested. Words have the lexicon's length.
+     *
+     * @param lexicon              is the lexicon of valid and wolfle words.
+     * @param rows                 is the number of guesses allowed.
+     * @param secretWordForTesting is the secret word to use for testing. If
+     *                             empty, a random word from wolfleWords is used.
+     * @param hardMode             is true to play in hard mode.
+     * @throws IllegalArgumentException if the lexicon is null, the number of
+     *                                  rows is not positive, or the secret word
+     *                                  is invalid.
+     */
+    public Wolfle(Lexicon lexicon, int rows, String secretWordForTesting, boolean hardMode) {
+        this(lexicon, rows, secretWordForTesting, hardMode, METRICS);
+    }
+
+    /**
+     * constructs a Wolfle game that records into the given metrics instead of
+     * the default ones, so that games which are not live, like those replayed
+     * from a journal, do not show up in the live counters.
+     *
+     * @param lexicon              is the lexicon of valid and wolfle words.
+     * @param rows                 is the number of guesses allowed.
+     * @param secretWordForTesting is the secret word to use for testing. If
+     *                             empty, a random word from wolfleWords is used.
+     * @param hardMode             is true to play in hard mode.
+     * @param metrics              is the metrics the game records into.
+     * @throws IllegalArgumentException if the lexicon is null, the number of
+     *                                  rows is not positive, or the secret word
+     *                                  is invalid.
+     */
+    Wolfle(Lexicon lexicon, int rows, String secretWordForTesting, boolean hardMode,
+            WolfleMetrics metrics) {
+        if (lexicon == null) {
+            throw new IllegalArgumentException("Null lexicon");
+        }
+        if (rows <= 0) {
+            throw new IllegalArgumentException("Invalid rows");
+        }
+        this.lexicon = lexicon;
+        this.metrics = metrics;
+        this.rows = rows;
+        this.cols = lexicon.getWordLength();
+        feedback = new Feedback(cols);
         alphabet = new Alphabet();
-        grid = new Grid(ROWS, COLS);
+        grid = new Grid(rows, cols);
         isGameOverCorrectGuess = false;
         isGameOverNoMoreGuesses = false;
 
-        validWords = loadWords("word-files/ValidWordList.txt");
-        wolfleWords = loadWords("word-files/WolfleWordList.txt");
-
         if (secretWordForTesting.length() == 0) {
-            int randomIndex = (int) (Math.random() * wolfleWords.length);
-            secretWord = wolfleWords[randomIndex];
+            int randomIndex = (int) (Math.random() * lexicon.getWolfleWordCount());
+            secretWord = lexicon.getWolfleWord(randomIndex);
         } else {
-            if (contains(wolfleWords, secretWordForTesting)) {
+            if (lexicon.isWolfleWord(secretWordForTesting)) {
                 secretWord = secretWordForTesting;
             } else {
                 throw new IllegalArgumentException("Invalid secret word");
             }
         }
+        secretCode = WordCode.encodeLong(secretWord, cols);
+        required = new int[cols];
+        levels = new int[cols];
+        remainingCount = lexicon.getWolfleWords().size();
+        this.hardMode = hardMode;
+        metrics.gameCreated();
     }
 
     /**
-     * loads words from the specified file into an array.
+     * sets the metrics this game records into from now on.
      *
-     * @param filePath is the path of the file to load.
-     * @return an array of strings representing the words in the file.
-     * @throws IllegalArgumentException if the file cannot be accessed.
+     * @param metrics is the metrics to record into.
      */
-    private String[] loadWords(String filePath) {
-        try {
-            File file = new File(filePath);
-            Scanner scanner = new Scanner(file);
+    void setMetrics(WolfleMetrics metrics) {
+        this.metrics = metrics;
+    }
 
-            int wordCount = 0;
-            while (scanner.hasNextLine()) {
-                wordCount++;
-                scanner.nextLine();
-            }
+    /**
+     * returns the lexicon used by this game.
+     *
+     * @return the lexicon.
+     */
+    public Lexicon getLexicon() {
+        return lexicon;
+    }
 
-            String[] words = new String[wordCount];
-            scanner = new Scanner(file);
-            int index = 0;
-            while (scanner.hasNextLine()) {
-                String word = scanner.nextLine().trim();
-                words[index] = word;
-                index = index + 1;
-            }
-            scanner.close();
-            return words;
-        } catch (FileNotFoundException e) {
-            throw new IllegalArgumentException("Unable to access file: " + filePath);
-        }
+    /**
+     * returns the number of guesses allowed in this game.
+     *
+     * @return the number of grid rows.
+     */
+    public int getRows() {
+        return rows;
     }
 
     /**
-     * checks if a value exists in an array.
+     * returns the number of letters per word in this game.
      *
-     * @param array is the array to search.
-     * @param value is the value to find.
-     * @return true if the value is found in the array, false otherwise.
+     * @return the number of grid columns.
      */
-    private boolean contains(String[] array, String value) {
-        for (int i = 0; i < array.length; i++) {
-            if (array[i].equals(value)) {
-                return true;
-            }
-        }
-        return false;
+    public int getCols() {
+        return cols;
     }
 
     /**
@@ -107,6 +253,100 @@ public class Wolfle {
         return secretWord;
     }
 
+    /**
+     * checks if the game is played in hard mode.
+     *
+     * @return true if the game is in hard mode, false otherwise.
+     */
+    public boolean isHardMode() {
+        return hardMode;
+    }
+
+    /**
+     * checks if a guess uses everything revealed so far: every IN_POSITION
+     * letter in its column and every IN_WORD or IN_POSITION letter as many
+     * times as it has been found. Any word passes before the first guess. This
+     * method does not check the dictionary and applies whether or not the game
+     * is in hard mode.
+     *
+     * @param guess is the guess to check.
+     * @return true if the guess satisfies the revealed constraints.
+     * @throws IllegalArgumentException if the guess is null.
+     */
+    public boolean satisfiesConstraints(String guess) {
+        if (guess == null) {
+            throw new IllegalArgumentException("Null guess");
+        }
+        long guessCode = WordCode.encodeLong(guess, cols);
+        return guessCode != WordCode.INVALID && satisfiesConstraints(guessCode);
+    }
+
+    /**
+     * checks a guess against the constraint masks with a few bit operations.
+     * This method does not allocate.
+     *
+     * @param guessCode is the WordCode of the guess.
+     * @return true if the guess satisfies the revealed constraints.
+     */
+    private boolean satisfiesConstraints(long guessCode) {
+        if ((guessCode & positionMask) != positionCode) {
+            return false;
+        }
+        for (int k = 0; k < cols; k++) {
+            levels[k] = 0;
+        }
+        for (int col = 0; col < cols; col++) {
+            addLevel(1 << WordCode.letterAt(guessCode, col));
+        }
+        for (int k = 0; k < cols; k++) {
+            if ((required[k] & ~levels[k]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * counts one more copy of a letter in levels.
+     *
+     * @param bit is the letter's bit.
+     */
+    private void addLevel(int bit) {
+        for (int k = cols - 1; k > 0; k--) {
+            levels[k] |= levels[k - 1] & bit;
+        }
+        levels[0] |= bit;
+    }
+
+    /**
+     * adds what a guess revealed to the constraint masks. A letter found n
+     * times in one guess must appear at least n times in later guesses.
+     *
+     * @param guessCode is the WordCode of the guess.
+     * @param pattern   is the feedback pattern the guess received.
+     */
+    private void addConstraints(long guessCode, int pattern) {
+        for (int k = 0; k < cols; k++) {
+            levels[k] = 0;
+        }
+        for (int col = 0; col < cols; col++) {
+            int digit = Feedback.digitAt(pattern, col);
+            if (digit == Feedback.NOT_IN_WORD) {
+                continue;
+            }
+            int letter = WordCode.letterAt(guessCode, col);
+            addLevel(1 << letter);
+            if (digit == Feedback.IN_POSITION) {
+                int shift = col * WordCode.BITS_PER_LETTER;
+                positionMask |= (long) WordCode.LETTER_MASK << shift;
+                positionCode |= (long) letter << shift;
+            }
+        }
+        for (int k = 0; k < cols; k++) {
+            required[k] |= levels[k];
+        }
+    }
+
     /**
      * checks if the game is over due to a correct guess.
      *
@@ -148,21 +388,107 @@ public class Wolfle {
      * @throws IllegalArgumentException if the row or column is out of bounds.
      */
     public Letter.Status getGridLetterStatus(int row, int col) {
-        if (row < 0 || row >= ROWS) {
+        if (row < 0 || row >= rows) {
             throw new IllegalArgumentException("Invalid row");
         }
-        if (col < 0 || col >= COLS) {
+        if (col < 0 || col >= cols) {
             throw new IllegalArgumentException("Invalid col");
         }
         return grid.getStatus(row, col);
     }
 
+    /**
+     * returns the character of a letter in the grid at the specified row and
+     * column.
+     *
+     * @param row is the row of the letter in the grid.
+     * @param col is the column of the letter in the grid.
+     * @return the character at the specified position, '_' if not guessed yet.
+     * @throws IllegalArgumentException if the row or column is out of bounds.
+     */
+    public char getGridLetter(int row, int col) {
+        if (row < 0 || row >= rows) {
+            throw new IllegalArgumentException("Invalid row");
+        }
+        if (col < 0 || col >= cols) {
+            throw new IllegalArgumentException("Invalid col");
+        }
+        return grid.getLetter(row, col);
+    }
+
+    /**
+     * returns the shared Tile for a cell of the grid. Unlike getGridLetter and
+     * getGridLetterStatus together, this reads the cell once and does not
+     * allocate.
+     *
+     * @param row is the row of the letter in the grid.
+     * @param col is the column of the letter in the grid.
+     * @return the Tile with the letter and status at the specified position.
+     * @throws IllegalArgumentException if the row or column is out of bounds.
+     */
+    public Tile getGridTile(int row, int col) {
+        return grid.getTile(row, col);
+    }
+
+    /**
+     * returns the shared Tile for a letter in the alphabet by its index.
+     *
+     * @param index is the index of the letter in the alphabet.
+     * @return the Tile with the letter and status at the specified index.
+     * @throws IllegalArgumentException if the index is out of bounds.
+     */
+    public Tile getLetterTile(int index) {
+        return alphabet.getTile(index);
+    }
+
+    /**
+     * evaluates a guess against a secret word and returns the feedback as a
+     * packed pattern, one base-3 digit per column (see Feedback). If the lexicon
+     * has a feedback matrix and both words are in it, the pattern is looked up
+     * instead of computed. This method does not check the dictionary and does
+     * not allocate. Words of more than WordCode.MAX_INT_LENGTH letters have no
+     * int code; use evaluatePattern(long, long) for them.
+     *
+     * @param guessCode  is the WordCode of the guessed word.
+     * @param secretCode is the WordCode of the secret word.
+     * @return the feedback pattern, from 0 to Feedback.PATTERN_COUNT - 1.
+     */
+    public int evaluatePattern(int guessCode, int secretCode) {
+        FeedbackMatrix matrix = lexicon.getFeedbackMatrix();
+        if (matrix != null) {
+            int guessIndex = lexicon.getValidWords().indexOf(guessCode);
+            int answerIndex = lexicon.getWolfleWords().indexOf(secretCode);
+            if (guessIndex >= 0 && answerIndex >= 0) {
+                return matrix.pattern(guessIndex, answerIndex);
+            }
+        }
+        return feedback.evaluate(guessCode, secretCode);
+    }
+
+    /**
+     * evaluates a guess against a secret word like evaluatePattern(int, int),
+     * but takes the long codes of WordCode.encodeLong, so it works for every
+     * word length. Words of up to WordCode.MAX_INT_LENGTH letters go through
+     * the int path and its feedback matrix. This method does not allocate.
+     *
+     * @param guessCode  is the long WordCode of the guessed word.
+     * @param secretCode is the long WordCode of the secret word.
+     * @return the feedback pattern, from 0 to Feedback.patternCount(cols) - 1.
+     */
+    public int evaluatePattern(long guessCode, long secretCode) {
+        if (WordCode.fitsInt(cols)) {
+            return evaluatePattern((int) guessCode, (int) secretCode);
+        }
+        return feedback.evaluate(guessCode, secretCode);
+    }
+
     /**
      * evaluates a guess by determining the status of each letter in the guess
      * compared to the secret word.
      *
      * @param guess is the guessed word to evaluate.
-     * @return an array of Letters representing the status of each guessed letter.
+     * @return an array of Letters representing the status of each guessed letter,
+     *         or null if the guess is not a valid word.
      * @throws IllegalArgumentException if the guess is null.
      */
     public Letter[] evaluateGuess(String guess) {
@@ -170,29 +496,53 @@ public class Wolfle {
             throw new IllegalArgumentException("Null guess");
         }
 
-        if (!contains(validWords, guess)) {
-            return null;
+        long start = System.nanoTime();
+        long guessCode = WordCode.encodeLong(guess, cols);
+        Letter[] evaluatedLetters = null;
+        if (lexicon.isValidCode(guessCode)) {
+            int pattern = evaluatePattern(guessCode, secretCode);
+            evaluatedLetters = new Letter[cols];
+            for (int i = 0; i < cols; i++) {
+                evaluatedLetters[i] = new Letter(guess.charAt(i));
+                evaluatedLetters[i].setStatus(Feedback.statusAt(pattern, i));
+            }
         }
+        metrics.guessEvaluated(System.nanoTime() - start);
+        return evaluatedLetters;
+    }
 
-        Letter[] evaluatedLetters = new Letter[COLS];
-        for (int i = 0; i < COLS; i++) {
-            char guessedChar = guess.charAt(i);
-            evaluatedLetters[i] = new Letter(guessedChar);
+    /**
+     * evaluates a guess like evaluateGuess, but returns shared Tiles, so the
+     * array is the only allocation.
+     *
+     * @param guess is the guessed word to evaluate.
+     * @return an array of Tiles representing the status of each guessed letter,
+     *         or null if the guess is not a valid word.
+     * @throws IllegalArgumentException if the guess is null.
+     */
+    public Tile[] evaluateTiles(String guess) {
+        if (guess == null) {
+            throw new IllegalArgumentException("Null guess");
+        }
 
-            if (secretWord.charAt(i) == guessedChar) {
-                evaluatedLetters[i].setStatus(Letter.Status.IN_POSITION);
-            } else if (secretWord.indexOf(guessedChar) != -1) {
-                evaluatedLetters[i].setStatus(Letter.Status.IN_WORD);
-            } else {
-                evaluatedLetters[i].setStatus(Letter.Status.NOT_IN_WORD);
+        long start = System.nanoTime();
+        long guessCode = WordCode.encodeLong(guess, cols);
+        Tile[] evaluatedTiles = null;
+        if (lexicon.isValidCode(guessCode)) {
+            int pattern = evaluatePattern(guessCode, secretCode);
+            evaluatedTiles = new Tile[cols];
+            for (int i = 0; i < cols; i++) {
+                evaluatedTiles[i] = Tile.of(guess.charAt(i), Feedback.statusAt(pattern, i));
             }
         }
-        return evaluatedLetters;
+        metrics.guessEvaluated(System.nanoTime() - start);
+        return evaluatedTiles;
     }
 
     /**
-     * processes a guess by updating the grid and alphabet based on the evaluated
-     * letters.
+     * processes a guess by updating the grid and alphabet based on the
+     * feedback pattern for the guess. In hard mode a guess that does not
+     * satisfy the revealed constraints is rejected like an invalid word.
      *
      * @param guess   is the guessed word.
      * @param gridRow is the row in the grid to update.
@@ -205,31 +555,176 @@ public class Wolfle {
             throw new IllegalArgumentException("Null guess");
         }
 
-        if (gridRow < 0 || gridRow >= ROWS) {
+        if (gridRow < 0 || gridRow >= rows) {
             throw new IllegalArgumentException("Invalid grid row");
         }
 
-        Letter[] evaluatedLetters = evaluateGuess(guess);
-
-        if (evaluatedLetters == null) {
+        long start = System.nanoTime();
+        long guessCode = WordCode.encodeLong(guess, cols);
+        if (!lexicon.isValidCode(guessCode) || (hardMode && !satisfiesConstraints(guessCode))) {
+            metrics.guessRejected(System.nanoTime() - start);
             return false;
         }
 
-        for (int col = 0; col < COLS; col++) {
-            char character = evaluatedLetters[col].getLetter();
-            Letter.Status status = evaluatedLetters[col].getStatus();
+        int pattern = evaluatePattern(guessCode, secretCode);
+        int allInPosition = Feedback.allInPosition(cols);
+        int changedLetters = 0;
+        for (int col = 0; col < cols; col++) {
+            char character = guess.charAt(col);
+            Letter.Status status = Feedback.statusAt(pattern, col);
 
             grid.updateLetter(gridRow, col, character, status);
-            int alphabetIndex = character - 'A';
-            alphabet.updateStatus(alphabetIndex, status);
+            if (status != Letter.Status.NOT_IN_WORD && alphabet.updateStatus(character - 'A', status)) {
+                changedLetters |= 1 << (character - 'A');
+            }
         }
+        // a repeated letter can be NOT_IN_WORD in one column and found in
+        // another, so only mark letters NOT_IN_WORD once the found ones are set
+        for (int col = 0; col < cols; col++) {
+            int index = guess.charAt(col) - 'A';
+            if (Feedback.digitAt(pattern, col) == Feedback.NOT_IN_WORD
+                    && alphabet.updateStatus(index, Letter.Status.NOT_IN_WORD)) {
+                changedLetters |= 1 << index;
+            }
+        }
+
+        narrowCandidates(guessCode, pattern);
+        addConstraints(guessCode, pattern);
+        lastPattern = pattern;
 
-        if (guess.equals(secretWord)) {
+        if (pattern == allInPosition) {
             isGameOverCorrectGuess = true;
-        } else if (gridRow == ROWS - 1) {
+        } else if (gridRow == rows - 1) {
             isGameOverNoMoreGuesses = true;
         }
 
+        boolean won = pattern == allInPosition;
+        metrics.guessProcessed(System.nanoTime() - start, won, !won && gridRow == rows - 1);
+        if (!listeners.isEmpty()) {
+            WolfleEvent event = new WolfleEvent(this, gridRow, guess, pattern, changedLetters,
+                    isGameOverCorrectGuess || isGameOverNoMoreGuesses, won);
+            for (WolfleListener listener : listeners) {
+                listener.gameChanged(event);
+            }
+        }
         return true;
     }
+
+    /**
+     * returns the feedback pattern of the last guess processGuess accepted,
+     * one base-3 digit per column (see Feedback).
+     *
+     * @return the pattern, or -1 if no guess has been accepted.
+     */
+    public int getLastPattern() {
+        return lastPattern;
+    }
+
+    /**
+     * adds a listener to be told about every guess this game accepts. The
+     * listener is called on the thread that calls processGuess, once per
+     * guess with every change the guess made; rejected guesses change nothing
+     * and are not reported.
+     *
+     * @param listener is the listener to add.
+     * @throws IllegalArgumentException if the listener is null.
+     */
+    public void addListener(WolfleListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Null listener");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * removes a listener added with addListener.
+     *
+     * @param listener is the listener to remove.
+     */
+    public void removeListener(WolfleListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * returns the wolfle words still consistent with every guess processed so
+     * far, as a bitset over the indexes of lexicon.getWolfleWords(): word i
+     * remains if bit (i % 64) of element (i / 64) is set. The array is a copy.
+     *
+     * @return the bitset of remaining candidates.
+     */
+    public long[] remainingCandidates() {
+        if (candidates == null) {
+            return allCandidates();
+        }
+        return candidates.clone();
+    }
+
+    /**
+     * returns the number of wolfle words still consistent with every guess
+     * processed so far. This method runs in constant time.
+     *
+     * @return the number of remaining candidates.
+     */
+    public int remainingCount() {
+        return remainingCount;
+    }
+
+    /**
+     * removes the candidates that would not have given the pattern for the
+     * guess. A word gives the same pattern exactly when it has the guessed
+     * letter in every IN_POSITION column and not in any other guessed column,
+     * and holds each guessed letter as many times as it was found: exactly
+     * that many if a copy was NOT_IN_WORD, at least that many otherwise. Each
+     * of those is one AND or ANDNOT with a bitset of the lexicon's
+     * AnswerIndex, so no candidate is evaluated on its own.
+     *
+     * @param guessCode is the WordCode of the guess.
+     * @param pattern   is the feedback pattern the guess received.
+     */
+    private void narrowCandidates(long guessCode, int pattern) {
+        if (candidates == null) {
+            candidates = allCandidates();
+        }
+        AnswerIndex index = lexicon.getAnswerIndex();
+        int seen = 0;
+        for (int col = 0; col < cols; col++) {
+            int letter = WordCode.letterAt(guessCode, col);
+            if (Feedback.digitAt(pattern, col) == Feedback.IN_POSITION) {
+                index.requireLetterAt(candidates, letter, col);
+            } else {
+                index.excludeLetterAt(candidates, letter, col);
+            }
+            if ((seen & 1 << letter) != 0) {
+                continue;
+            }
+            seen |= 1 << letter;
+            int found = 0;
+            boolean missing = false;
+            for (int other = col; other < cols; other++) {
+                if (WordCode.letterAt(guessCode, other) == letter) {
+                    if (Feedback.digitAt(pattern, other) == Feedback.NOT_IN_WORD) {
+                        missing = true;
+                    } else {
+                        found++;
+                    }
+                }
+            }
+            if (found > 0) {
+                index.requireAtLeast(candidates, letter, found);
+            }
+            if (missing) {
+                index.requireAtMost(candidates, letter, found);
+            }
+        }
+        remainingCount = AnswerIndex.count(candidates);
+    }
+
+    /**
+     * returns a bitset with a bit set for every wolfle word.
+     *
+     * @return the full candidate bitset.
+     */
+    private long[] allCandidates() {
+        return lexicon.getAnswerIndex().all();
+    }
 }
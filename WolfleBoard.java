@@ -0,0 +1,274 @@
+import java.awt.*;
+import java.awt.event.*;
+import javax.swing.*;
+
+/**
+ * This class paints the grid of guessed words of a Wolfle game as a single
+ * component. Only the cells that change are repainted, and revealing a row
+ * flips its cells one after another.
+ *
+ * @author Roshni Desai
+ */
+public class WolfleBoard extends JComponent {
+
+    /** Preferred size of a cell in pixels */
+    public static final int CELL = 50;
+
+    /** Gap between cells in pixels */
+    public static final int GAP = 4;
+
+    /** Time for one cell to flip in nanoseconds */
+    public static final long FLIP_NANOS = 300_000_000L;
+
+    /** Delay between the flips of neighboring cells in nanoseconds */
+    public static final long STAGGER_NANOS = 100_000_000L;
+
+    /** Delay between animation frames in milliseconds, about 60 per second */
+    public static final int FRAME_MILLIS = 16;
+
+    /** Color of the outline of a cell that has not been revealed */
+    private static final Color OUTLINE = Color.BLACK;
+
+    /** Stroke of the outline of a cell that has not been revealed */
+    private static final Stroke STROKE = new BasicStroke(1);
+
+    /** Number of rows */
+    private final int rows;
+
+    /** Number of columns */
+    private final int cols;
+
+    /** Letter in each cell, ' ' if empty, indexed by row * cols + col */
+    private final char[] letters;
+
+    /** Status of each cell, indexed by row * cols + col */
+    private final Letter.Status[] statuses;
+
+    /** Time each revealing cell starts to flip, or 0 if it is not flipping */
+    private final long[] flipStart;
+
+    /** Number of cells still flipping */
+    private int flipping;
+
+    /** Timer that drives the reveal animation */
+    private final Timer timer;
+
+    /** Clip rectangle reused by every paint */
+    private final Rectangle clip;
+
+    /** Metrics of the font, looked up on the first paint */
+    private FontMetrics metrics;
+
+    /** Size of a cell at the current component size */
+    private int cellSize;
+
+    /** Left edge of the grid at the current component size */
+    private int left;
+
+    /** Top edge of the grid at the current component size */
+    private int top;
+
+    /**
+     * Creates an empty board
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     */
+    public WolfleBoard(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        letters = new char[rows * cols];
+        statuses = new Letter.Status[rows * cols];
+        flipStart = new long[rows * cols];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = ' ';
+            statuses[i] = Letter.Status.NOT_GUESSED;
+        }
+        clip = new Rectangle();
+        timer = new Timer(FRAME_MILLIS, new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                animate();
+            }
+        });
+        setFont(WolfleGUI.WORD);
+        setOpaque(true);
+        setPreferredSize(new Dimension(cols * CELL, rows * CELL));
+    }
+
+    /**
+     * Sets the letter in a cell of a row that has not been revealed
+     *
+     * @param row row of the cell
+     * @param col column of the cell
+     * @param letter letter to show, ' ' to clear the cell
+     */
+    public void setLetter(int row, int col, char letter) {
+        int cell = row * cols + col;
+        if (letters[cell] != letter) {
+            letters[cell] = letter;
+            repaintCell(cell);
+        }
+    }
+
+    /**
+     * Reveals the statuses of a guessed row, flipping its cells from left to
+     * right
+     *
+     * @param row row to reveal
+     * @param wolfle game the row was guessed in
+     */
+    public void reveal(int row, Wolfle wolfle) {
+        long now = System.nanoTime();
+        for (int col = 0; col < cols; col++) {
+            int cell = row * cols + col;
+            letters[cell] = wolfle.getGridLetter(row, col);
+            statuses[cell] = wolfle.getGridLetterStatus(row, col);
+            if (flipStart[cell] == 0) {
+                flipping++;
+            }
+            flipStart[cell] = now + col * STAGGER_NANOS;
+        }
+        timer.start();
+    }
+
+    /**
+     * Returns whether a reveal is still being animated
+     *
+     * @return true if any cell is flipping
+     */
+    public boolean isAnimating() {
+        return flipping > 0;
+    }
+
+    /**
+     * Repaints the cells that are flipping and stops the timer when they are
+     * done
+     */
+    private void animate() {
+        long now = System.nanoTime();
+        for (int cell = 0; cell < flipStart.length; cell++) {
+            if (flipStart[cell] != 0) {
+                if (now - flipStart[cell] >= FLIP_NANOS) {
+                    flipStart[cell] = 0;
+                    flipping--;
+                }
+                repaintCell(cell);
+            }
+        }
+        if (flipping == 0) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Repaints the rectangle of one cell
+     *
+     * @param cell index of the cell
+     */
+    private void repaintCell(int cell) {
+        layoutCells();
+        repaint(left + (cell % cols) * cellSize, top + (cell / cols) * cellSize, cellSize, cellSize);
+    }
+
+    /**
+     * Computes the cell size and the position of the grid, centered in the
+     * component
+     */
+    private void layoutCells() {
+        cellSize = Math.max(1, Math.min(getWidth() / cols, getHeight() / rows));
+        left = (getWidth() - cellSize * cols) / 2;
+        top = (getHeight() - cellSize * rows) / 2;
+    }
+
+    /**
+     * Paints the cells that intersect the clip
+     *
+     * @param g graphics to paint with
+     */
+    protected void paintComponent(Graphics g) {
+        layoutCells();
+        g.getClipBounds(clip);
+        if (clip.isEmpty()) {
+            clip.setBounds(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2.setStroke(STROKE);
+        if (metrics == null || metrics.getFont() != getFont()) {
+            metrics = getFontMetrics(getFont());
+        }
+        int firstCol = Math.max(0, (clip.x - left) / cellSize);
+        int lastCol = Math.min(cols - 1, (clip.x + clip.width - left) / cellSize);
+        int firstRow = Math.max(0, (clip.y - top) / cellSize);
+        int lastRow = Math.min(rows - 1, (clip.y + clip.height - top) / cellSize);
+        long now = System.nanoTime();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                paintCell(g, row * cols + col, left + col * cellSize,
+                        top + row * cellSize, now);
+            }
+        }
+    }
+
+    /**
+     * Paints one cell. A flipping cell shrinks to a line showing its outline,
+     * then grows back showing its status color.
+     *
+     * @param g graphics to paint with
+     * @param cell index of the cell
+     * @param x left edge of the cell
+     * @param y top edge of the cell
+     * @param now current time in nanoseconds
+     */
+    private void paintCell(Graphics g, int cell, int x, int y, long now) {
+        int size = cellSize - GAP;
+        x += GAP / 2;
+        y += GAP / 2;
+        boolean revealed = statuses[cell] != Letter.Status.NOT_GUESSED;
+        int height = size;
+        if (flipStart[cell] != 0) {
+            long elapsed = now - flipStart[cell];
+            if (elapsed < 0) {
+                revealed = false;
+            } else if (elapsed < FLIP_NANOS) {
+                double half = FLIP_NANOS / 2.0;
+                revealed = elapsed >= half;
+                height = (int) (size * Math.abs(elapsed - half) / half);
+            }
+        }
+        int cellTop = y + (size - height) / 2;
+
+        if (revealed) {
+            g.setColor(colorOf(statuses[cell]));
+            g.fillRect(x, cellTop, size, height);
+            g.setColor(WolfleGUI.GUESSED);
+        } else {
+            g.setColor(OUTLINE);
+            g.drawRect(x, cellTop, size - 1, Math.max(0, height - 1));
+        }
+        if (letters[cell] != ' ' && height == size) {
+            int textX = x + (size - metrics.charWidth(letters[cell])) / 2;
+            int textY = y + (size - metrics.getHeight()) / 2 + metrics.getAscent();
+            g.drawChars(letters, cell, 1, textX, textY);
+        }
+    }
+
+    /**
+     * Returns the background color for a revealed status
+     *
+     * @param status status of the letter
+     * @return color to fill the cell with
+     */
+    static Color colorOf(Letter.Status status) {
+        if (status == Letter.Status.IN_POSITION) {
+            return WolfleGUI.IN_POSITION;
+        } else if (status == Letter.Status.IN_WORD) {
+            return WolfleGUI.IN_WORD;
+        }
+        return WolfleGUI.NOT_IN_WORD;
+    }
+}
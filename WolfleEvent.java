@@ -0,0 +1,123 @@
+package Project4.src;
+
+public final class WolfleEvent {
+
+    /**
+     * the game that changed.
+     */
+    private final Wolfle game;
+
+    /**
+     * the grid row the guess filled.
+     */
+    private final int row;
+
+    /**
+     * the guess.
+     */
+    private final String guess;
+
+    /**
+     * the feedback pattern of the guess.
+     */
+    private final int pattern;
+
+    /**
+     * one bit per alphabet index for the letters whose status changed.
+     */
+    private final int changedLetters;
+
+    /**
+     * whether the guess ended the game, and whether it won it.
+     */
+    private final boolean gameOver;
+    private final boolean won;
+
+    /**
+     * constructs the event for one accepted guess.
+     *
+     * @param game           is the game that changed.
+     * @param row            is the grid row the guess filled.
+     * @param guess          is the guess.
+     * @param pattern        is the feedback pattern of the guess.
+     * @param changedLetters is the mask of letters whose status changed.
+     * @param gameOver       is true if the guess ended the game.
+     * @param won            is true if the guess was the secret word.
+     */
+    WolfleEvent(Wolfle game, int row, String guess, int pattern, int changedLetters,
+            boolean gameOver, boolean won) {
+        this.game = game;
+        this.row = row;
+        this.guess = guess;
+        this.pattern = pattern;
+        this.changedLetters = changedLetters;
+        this.gameOver = gameOver;
+        this.won = won;
+    }
+
+    /**
+     * returns the game that changed.
+     *
+     * @return the game.
+     */
+    public Wolfle getGame() {
+        return game;
+    }
+
+    /**
+     * returns the grid row the guess filled. Every column of the row changed;
+     * no other cell did.
+     *
+     * @return the row.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * returns the guess.
+     *
+     * @return the guessed word.
+     */
+    public String getGuess() {
+        return guess;
+    }
+
+    /**
+     * returns the feedback pattern of the guess, one base-3 digit per column
+     * (see Feedback).
+     *
+     * @return the pattern.
+     */
+    public int getPattern() {
+        return pattern;
+    }
+
+    /**
+     * returns the letters whose alphabet status the guess changed, one bit per
+     * alphabet index.
+     *
+     * @return the mask of changed letters.
+     */
+    public int getChangedLetters() {
+        return changedLetters;
+    }
+
+    /**
+     * returns whether the guess ended the game.
+     *
+     * @return true if the game is over.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * returns whether the guess was the secret word.
+     *
+     * @return true if the game was won.
+     */
+    public boolean isWon() {
+        return won;
+    }
+}
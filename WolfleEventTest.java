@@ -0,0 +1,90 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import Project4.src.Feedback;
+import Project4.src.Wolfle;
+import Project4.src.WolfleEvent;
+import Project4.src.WolfleListener;
+import Project4.src.WordCode;
+
+/**
+ * Tests WolfleEvent class and Wolfle listeners
+ *
+ * @author Roshni Desai
+ */
+public class WolfleEventTest {
+
+    /**
+     * Test that each accepted guess sends one event with only its changes
+     */
+    @Test
+    public void testOneEventPerGuess() {
+        Wolfle wolfle = new Wolfle("ELEGY");
+        List<WolfleEvent> events = new ArrayList<WolfleEvent>();
+        wolfle.addListener(events::add);
+
+        assertFalse(wolfle.processGuess("ZZZZZ", 0), "Test invalid guess");
+        assertEquals(0, events.size(), "Test no event for rejected guess");
+
+        assertTrue(wolfle.processGuess("EAGLE", 0), "Test EAGLE");
+        assertEquals(1, events.size(), "Test one event for EAGLE");
+        WolfleEvent event = events.get(0);
+        assertSame(wolfle, event.getGame(), "Test game");
+        assertEquals(0, event.getRow(), "Test row");
+        assertEquals("EAGLE", event.getGuess(), "Test guess");
+        assertEquals(new Feedback().evaluate(WordCode.encode("EAGLE"), WordCode.encode("ELEGY")),
+                event.getPattern(), "Test pattern");
+        assertEquals(mask("EAGL"), event.getChangedLetters(), "Test changed letters");
+        assertFalse(event.isGameOver(), "Test game not over");
+
+        // E is already IN_POSITION; L and G move up to it and Y is new
+        assertTrue(wolfle.processGuess("ELEGY", 1), "Test ELEGY");
+        assertEquals(2, events.size(), "Test one event for ELEGY");
+        event = events.get(1);
+        assertEquals(mask("LGY"), event.getChangedLetters(), "Test changed letters");
+        assertTrue(event.isGameOver(), "Test game over");
+        assertTrue(event.isWon(), "Test game won");
+    }
+
+    /**
+     * Test the last row ends the game without winning, and removing a listener
+     */
+    @Test
+    public void testLossAndRemove() {
+        Wolfle wolfle = new Wolfle("ELEGY");
+        List<WolfleEvent> events = new ArrayList<WolfleEvent>();
+        WolfleListener listener = events::add;
+        wolfle.addListener(listener);
+        for (int row = 0; row < Wolfle.ROWS; row++) {
+            assertTrue(wolfle.processGuess("CHURN", row), "Test CHURN in row " + row);
+        }
+        assertEquals(Wolfle.ROWS, events.size(), "Test one event per row");
+        assertEquals(0, events.get(1).getChangedLetters(), "Test repeated guess changes no letters");
+        assertTrue(events.get(Wolfle.ROWS - 1).isGameOver(), "Test game over on last row");
+        assertFalse(events.get(Wolfle.ROWS - 1).isWon(), "Test game lost");
+
+        wolfle.removeListener(listener);
+        wolfle.processGuess("EAGLE", 0);
+        assertEquals(Wolfle.ROWS, events.size(), "Test no event after removeListener");
+        Exception e = assertThrows(IllegalArgumentException.class, () -> wolfle.addListener(null));
+        assertEquals("Null listener", e.getMessage(), "addListener Null listener message");
+    }
+
+    /**
+     * Returns the alphabet mask of some letters
+     *
+     * @param letters the letters
+     * @return one bit per letter
+     */
+    private static int mask(String letters) {
+        int mask = 0;
+        for (int i = 0; i < letters.length(); i++) {
+            mask |= 1 << (letters.charAt(i) - 'A');
+        }
+        return mask;
+    }
+}
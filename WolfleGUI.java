@@ -1,7 +1,8 @@
 import java.awt.*;
 import java.awt.event.*;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import javax.swing.*;
-import javax.swing.border.*;
 
 /**
  * This class creates a graphical representation of a Wolfle game.
@@ -9,7 +10,7 @@ import javax.swing.border.*;
  * @author Suzanne Balik
  * @author Michelle Glatz
  */
-public class WolfleGUI extends JFrame implements ActionListener {
+public class WolfleGUI extends JFrame implements ActionListener, WolfleListener {
 
     /** Width of GUI */
     public static final int WIDTH = 715;
@@ -55,38 +56,26 @@ public class WolfleGUI extends JFrame implements ActionListener {
     /** Message label */
     private JLabel messageLabel;
 
-    /** Blank label used for layout */
-    private JLabel blankLabel;
+    /** Hint button */
+    private JButton hintButton;
 
-    /** Labels for letters in guessed words */
-    private JLabel[][] wordLabels;
+    /** Label showing the latest hint */
+    private JLabel hintLabel;
 
-    /** Letter buttons */
-    private JButton[] letterButtons;
+    /** Panel for hint button and label */
+    private JPanel hintPanel;
 
-    /** Enter button */
-    private JButton enterButton;
+    /** Painted grid of guessed words */
+    private WolfleBoard board;
 
-    /** Back button */
-    private JButton backButton;
+    /** Painted letter, BACK and ENTER keys */
+    private WolfleKeyboard keyboard;
 
     /** Top panel */
     private JPanel topPanel;
 
-    /** Panel for guessed words */
-    private JPanel wordPanel;
-
-    /** Blank panel used for layout */
-    private JPanel blankEastPanel;
-
-    /** Blank panel used for layout */
-    private JPanel blankWestPanel;
-
-    /** Bottom panel */
-    private JPanel bottomPanel;
-
-    /** Panel for letter and back buttons */
-    private JPanel letterPanel;
+    /** Letters typed in the current row */
+    private char[] typed;
 
     /** Current row for guessed words */
     private int currentRow;
@@ -97,12 +86,36 @@ public class WolfleGUI extends JFrame implements ActionListener {
     /** Wolfle game instance */
     private Wolfle wolfle;
 
+    /** Index of valid word prefixes used to disable dead-end letters */
+    private PrefixIndex prefixIndex;
+
+    /** Prefix index node for the letters typed in each column of the current row */
+    private int[] prefixNodes;
+
+    /** Solver used for hints */
+    private Solver solver;
+
+    /** Worker computing the current hint, or null if none is running */
+    private HintWorker hintWorker;
+
     /**
      * Creates GUI used to play Wolfle game
      * 
      * @param secretWordForTesting secret word used for testing
      */
     public WolfleGUI(String secretWordForTesting) {
+        this(secretWordForTesting, System.nanoTime());
+    }
+
+    /**
+     * Creates GUI used to play Wolfle game. Must be called on the event
+     * dispatch thread. The window is shown right away with input disabled,
+     * and the words are loaded by a background worker.
+     * 
+     * @param secretWordForTesting secret word used for testing
+     * @param launchNanos System.nanoTime() when the program was launched
+     */
+    public WolfleGUI(String secretWordForTesting, long launchNanos) {
         try {
             UIManager.setLookAndFeel(UIManager.getCrossPlatformLookAndFeelClassName());
         } catch (Exception e) {
@@ -113,222 +126,346 @@ public class WolfleGUI extends JFrame implements ActionListener {
         setLocation(X, Y);
         setDefaultCloseOperation(EXIT_ON_CLOSE);
 
-        wolfle = new Wolfle(secretWordForTesting);
-
         // Set up top panel with message and word grid
-        messageLabel = new JLabel("Guess the secret word!", JLabel.CENTER);
+        messageLabel = new JLabel("Loading words...", JLabel.CENTER);
         messageLabel.setFont(WORD);
-        blankLabel = new JLabel("     ", JLabel.CENTER);
-        wordPanel = new JPanel();
-        wordPanel.setLayout(new GridLayout(Wolfle.ROWS, Wolfle.COLS));
-        wordLabels = new JLabel[Wolfle.ROWS][Wolfle.COLS];
-        Border border = BorderFactory.createLineBorder(Color.BLACK);
-        Border empty = BorderFactory.createEmptyBorder(2, 2, 2, 2);
-        for (int i = 0; i < Wolfle.ROWS; i++) {
-            for (int j = 0; j < Wolfle.COLS; j++) {
-                wordLabels[i][j] = new JLabel(" ", JLabel.CENTER);
-                wordLabels[i][j].setBorder(new CompoundBorder(empty, border));
-                wordLabels[i][j].setFont(WORD);
-                wordLabels[i][j].setOpaque(true);
-                wordPanel.add(wordLabels[i][j]);
+        hintButton = new JButton("HINT");
+        hintButton.setFont(LETTER);
+        hintButton.setEnabled(false);
+        hintButton.addActionListener(this);
+        hintLabel = new JLabel(" ");
+        hintLabel.setFont(LETTER);
+        hintPanel = new JPanel();
+        hintPanel.add(hintButton);
+        hintPanel.add(hintLabel);
+        board = new WolfleBoard(Wolfle.ROWS, Wolfle.COLS) {
+            private boolean painted;
+
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                if (!painted) {
+                    painted = true;
+                    WolfleMetrics.getDefault().firstPaint(System.nanoTime() - launchNanos);
+                }
             }
-        }
-        blankEastPanel = new JPanel();
-        blankEastPanel.setLayout(new GridLayout(Wolfle.ROWS, 2));
-        for (int i = 0; i < Wolfle.ROWS; i++) {
-            JLabel blank = new JLabel("   ");
-            blank.setFont(WORD);
-            blankEastPanel.add(blank);
-            blank = new JLabel("    ");
-            blank.setFont(WORD);
-            blankEastPanel.add(blank);
-        }
-        blankWestPanel = new JPanel();
-        blankWestPanel.setLayout(new GridLayout(Wolfle.ROWS, 2));
-        for (int i = 0; i < Wolfle.ROWS; i++) {
-            JLabel blank = new JLabel("   ");
-            blank.setFont(WORD);
-            blankWestPanel.add(blank);
-            blank = new JLabel("    ");
-            blank.setFont(WORD);
-            blankWestPanel.add(blank);
-        }
+        };
         topPanel = new JPanel();
         topPanel.setLayout(new BorderLayout());
         topPanel.add(messageLabel, BorderLayout.NORTH);
-        topPanel.add(wordPanel, BorderLayout.CENTER);
-        topPanel.add(blankEastPanel, BorderLayout.EAST);
-        topPanel.add(blankWestPanel, BorderLayout.WEST);
-        topPanel.add(blankLabel, BorderLayout.SOUTH);
-
-        // Setup bottom panel with letter, back, and enter buttons
-        letterPanel = new JPanel();
-        letterPanel.setLayout(new GridLayout(LTR_ROWS, LTR_COLS));
-
-        // Create letter buttons
-        letterButtons = new JButton[Alphabet.MAX_LETTERS];
-        for (int i = 0; i < Alphabet.MAX_LETTERS; i++) {
-            letterButtons[i] = new JButton("" + (char) ('A' + i));
-            letterButtons[i].setFont(LETTER);
-            letterButtons[i].addActionListener(this);
-        }
-        // Fill in row 1 with A - I
-        for (int i = 0; i < LTR_COLS; i++) {
-            letterPanel.add(letterButtons[i]);
-        }
-        // Fill in row 2 with J - R
-        for (int i = LTR_COLS; i < 2 * LTR_COLS; i++) {
-            letterPanel.add(letterButtons[i]);
-        }
-        // Fill in row 3 with S - Z and back button
-        for (int i = 2 * LTR_COLS; i < Alphabet.MAX_LETTERS; i++) {
-            letterPanel.add(letterButtons[i]);
-        }
-        backButton = new JButton("BACK");
-        backButton.addActionListener(this);
-        backButton.setEnabled(false);
-        letterPanel.add(backButton);
-
-        // Create enter button
-        enterButton = new JButton("ENTER");
-        enterButton.setFont(LETTER);
-        enterButton.addActionListener(this);
-        enterButton.setEnabled(false);
-
-        // Add buttons to bottom panel
-        bottomPanel = new JPanel();
-        bottomPanel.setLayout(new BorderLayout());
-        bottomPanel.add(letterPanel, BorderLayout.CENTER);
-        bottomPanel.add(enterButton, BorderLayout.SOUTH);
+        topPanel.add(board, BorderLayout.CENTER);
+        topPanel.add(hintPanel, BorderLayout.SOUTH);
+
+        // Set up keyboard with letter, back, and enter keys, disabled until
+        // the words are loaded
+        keyboard = new WolfleKeyboard();
+        keyboard.setEnabledLetters(0);
+        keyboard.addActionListener(this);
 
         Container c = getContentPane();
         c.add(topPanel, BorderLayout.CENTER);
-        c.add(bottomPanel, BorderLayout.SOUTH);
+        c.add(keyboard, BorderLayout.SOUTH);
 
         currentRow = 0;
         currentCol = 0;
 
         setVisible(true);
+        new Loader(secretWordForTesting, launchNanos).execute();
     }
 
     /**
-     * Handle processing of back, enter, and letter buttons
+     * Starts the game once the background worker has loaded it
+     * 
+     * @param game game created with the loaded words
+     * @param index prefix index over the game's valid words
+     * @param gameSolver solver over the game's lexicon
+     */
+    private void start(Wolfle game, PrefixIndex index, Solver gameSolver) {
+        wolfle = game;
+        solver = gameSolver;
+        wolfle.addListener(this);
+        prefixIndex = index;
+        prefixNodes = new int[wolfle.getCols() + 1];
+        prefixNodes[0] = prefixIndex.root();
+        typed = new char[wolfle.getCols()];
+        messageLabel.setText("Guess the secret word!");
+        hintButton.setEnabled(true);
+        updateLetterKeys();
+    }
+
+    /**
+     * Handle processing of back, enter, and letter keys
      * 
      * @param e event to be processed
      */
     public void actionPerformed(ActionEvent e) {
+        String command = e.getActionCommand();
+        if (wolfle == null) {
+            return;
+        }
 
-        // Process BACK button
-        if (e.getSource() == backButton) {
+        // Process HINT button
+        if (e.getSource() == hintButton) {
+            startHint();
+            return;
+        }
+        // Any other key makes a running hint stale
+        cancelHint();
+
+        // Process BACK key
+        if (WolfleKeyboard.BACK.equals(command)) {
             currentCol--;
-            wordLabels[currentRow][currentCol].setText(" ");
-            for (int i = 0; i < Alphabet.MAX_LETTERS; i++) {
-                letterButtons[i].setEnabled(true);
-            }
+            board.setLetter(currentRow, currentCol, ' ');
+            updateLetterKeys();
             if (currentCol == 0) {
-                backButton.setEnabled(false);
+                keyboard.setBackEnabled(false);
             }
-            enterButton.setEnabled(false);
+            keyboard.setEnterEnabled(false);
         }
 
-        // Process ENTER button
-        if (e.getSource() == enterButton) {
-            // Get guess
-            String guess = "";
-            for (int i = 0; i < Wolfle.COLS; i++) {
-                guess += wordLabels[currentRow][i].getText();
-            }
+        // Process ENTER key
+        else if (WolfleKeyboard.ENTER.equals(command)) {
+            String guess = new String(typed);
 
             // Handle invalid guess
             if (!wolfle.processGuess(guess, currentRow)) {
                 messageLabel.setText("INVALID WORD - GUESS AGAIN!");
             }
-            // Process valid guess
-            else {
-                backButton.setEnabled(false);
-                enterButton.setEnabled(false);
-                if (currentRow < Wolfle.ROWS) {
-                    // Update letter buttons
-                    for (int i = 0; i < Alphabet.MAX_LETTERS; i++) {
-                        Letter.Status status = wolfle.getLetterStatus(i);
-                        if (status == Letter.Status.NOT_IN_WORD) {
-                            letterButtons[i].setBackground(NOT_IN_WORD);
-                            letterButtons[i].setForeground(GUESSED);
-                        } else if (status == Letter.Status.IN_WORD) {
-                            letterButtons[i].setBackground(IN_WORD);
-                            letterButtons[i].setForeground(GUESSED);
-                        } else if (status == Letter.Status.IN_POSITION) {
-                            letterButtons[i].setBackground(IN_POSITION);
-                            letterButtons[i].setForeground(GUESSED);
-                        }
-                    }
-
-                    // Update word grid
-                    for (int j = 0; j < Wolfle.COLS; j++) {
-                        Letter.Status status = wolfle.getGridLetterStatus(currentRow, j);
-                        wordLabels[currentRow][j].setForeground(GUESSED);
-                        Border guessedBorder = BorderFactory.createLineBorder(Color.WHITE);
-                        wordLabels[currentRow][j].setBorder(guessedBorder);
-                        if (status == Letter.Status.NOT_IN_WORD) {
-                            wordLabels[currentRow][j].setBackground(NOT_IN_WORD);
-                        } else if (status == Letter.Status.IN_WORD) {
-                            wordLabels[currentRow][j].setBackground(IN_WORD);
-                        } else if (status == Letter.Status.IN_POSITION) {
-                            wordLabels[currentRow][j].setBackground(IN_POSITION);
-                        }
-                    }
-                    currentCol = 0;
-                    // Check if game is over due to correct guess or no more guesses
-                    if (wolfle.isGameOverCorrectGuess()) {
-                        messageLabel.setText("You guessed correctly!");
-                    } else if (wolfle.isGameOverNoMoreGuesses()) {
-                        messageLabel.setText("The secret word is " +
-                                wolfle.getSecretWord());
-                    } else {
-                        currentRow++;
-                        messageLabel.setText("Guess the secret word!");
-                        for (int i = 0; i < Alphabet.MAX_LETTERS; i++) {
-                            letterButtons[i].setEnabled(true);
-                        }
-                    }
-                }
-                // In case there are no more rows, which should not happen
-                else {
-                    messageLabel.setText("The secret word is " +
-                            wolfle.getSecretWord());
-                }
+            // A valid guess is shown by gameChanged
+        }
+
+        // Process letter key
+        else if (command != null && command.length() == 1) {
+            int i = command.charAt(0) - 'A';
+            typed[currentCol] = command.charAt(0);
+            board.setLetter(currentRow, currentCol, typed[currentCol]);
+            prefixNodes[currentCol + 1] = prefixIndex.child(prefixNodes[currentCol], i);
+            currentCol++;
+            keyboard.setBackEnabled(true);
+            // Only letters that can still lead to a valid word stay enabled,
+            // so a full row is always a valid word
+            updateLetterKeys();
+            // If last letter added to a word, enable ENTER key
+            if (currentCol >= wolfle.getCols()) {
+                keyboard.setEnterEnabled(true);
             }
         }
+    }
 
-        // Process letter button
-        boolean found = false;
-        for (int i = 0; i < Alphabet.MAX_LETTERS && !found; i++) {
-            if (e.getSource() == letterButtons[i]) {
-                found = true;
-                wordLabels[currentRow][currentCol].setText("" + (char) ('A' + i));
-                currentCol++;
-                backButton.setEnabled(true);
-                // If last letter added to a word, disable letters, enable ENTER button
-                if (currentCol >= Wolfle.COLS) {
-                    enterButton.setEnabled(true);
-                    for (int j = 0; j < Alphabet.MAX_LETTERS; j++) {
-                        letterButtons[j].setEnabled(false);
-                    }
-                }
+    /**
+     * Shows the changes made by an accepted guess: reveals its row, recolors
+     * only the keys whose letters changed status, and moves to the next row
+     * or shows the result
+     *
+     * @param event changes made by the guess
+     */
+    public void gameChanged(WolfleEvent event) {
+        hintLabel.setText(" ");
+        hintButton.setEnabled(!event.isGameOver());
+        keyboard.setBackEnabled(false);
+        keyboard.setEnterEnabled(false);
+        for (int changed = event.getChangedLetters(); changed != 0; changed &= changed - 1) {
+            int i = Integer.numberOfTrailingZeros(changed);
+            keyboard.setStatus(i, wolfle.getLetterStatus(i));
+        }
+        board.reveal(event.getRow(), wolfle);
+        currentCol = 0;
+        // Check if game is over due to correct guess or no more guesses
+        if (event.isWon()) {
+            messageLabel.setText("You guessed correctly!");
+            keyboard.setEnabledLetters(0);
+        } else if (event.isGameOver()) {
+            messageLabel.setText("The secret word is " + wolfle.getSecretWord());
+            keyboard.setEnabledLetters(0);
+        } else {
+            currentRow = event.getRow() + 1;
+            messageLabel.setText("Guess the secret word!");
+            updateLetterKeys();
+        }
+    }
+
+    /**
+     * Starts computing a hint for the current grid in the background. The
+     * remaining answers are read here on the event dispatch thread, so the
+     * worker never touches the game.
+     */
+    private void startHint() {
+        cancelHint();
+        int[] remaining = solver.remainingAnswers(wolfle);
+        if (remaining.length == 0) {
+            hintLabel.setText("No answers left");
+            return;
+        }
+        hintLabel.setText("Thinking...");
+        hintWorker = new HintWorker(remaining);
+        hintWorker.execute();
+    }
+
+    /**
+     * Cancels the running hint, if any
+     */
+    private void cancelHint() {
+        if (hintWorker != null) {
+            hintWorker.cancel(false);
+            hintWorker = null;
+            hintLabel.setText(" ");
+        }
+    }
+
+    /**
+     * Returns a valid word of the game's lexicon
+     * 
+     * @param guessIndex index of the word in the lexicon's valid words
+     * @return the word
+     */
+    private String validWord(int guessIndex) {
+        Lexicon lexicon = wolfle.getLexicon();
+        return WordCode.decodeLong(lexicon.getValidWords().getLongCode(guessIndex),
+                lexicon.getWordLength());
+    }
+
+    /**
+     * Enables the letter keys that extend the letters typed in the current
+     * row toward a valid word and disables the rest
+     */
+    private void updateLetterKeys() {
+        keyboard.setEnabledLetters(prefixIndex.nextLetters(prefixNodes[currentCol]));
+    }
+
+    /**
+     * Finds the best next guess off the event dispatch thread, publishing the
+     * best guess found so far after each batch of guesses the solver scores
+     */
+    private class HintWorker extends SwingWorker<Integer, int[]> implements SolverProgress {
+
+        /** Indexes of the answers still possible */
+        private final int[] remaining;
+
+        /**
+         * Creates a hint worker
+         * 
+         * @param remaining indexes of the answers still possible
+         */
+        HintWorker(int[] remaining) {
+            this.remaining = remaining;
+        }
+
+        /**
+         * Runs the solver
+         * 
+         * @return index of the best guess
+         */
+        protected Integer doInBackground() {
+            return solver.bestGuess(remaining, this);
+        }
+
+        /**
+         * Publishes the best guess so far
+         * 
+         * @param guessIndex index of the best guess so far
+         * @param scored number of guesses scored
+         * @param total number of guesses to score
+         */
+        public void bestSoFar(int guessIndex, int scored, int total) {
+            publish(new int[] { guessIndex, 100 * scored / total });
+        }
+
+        /**
+         * Shows the latest best guess so far and how much of the search is done
+         * 
+         * @param results best guesses and percentages published since the last call
+         */
+        protected void process(List<int[]> results) {
+            if (!isCancelled()) {
+                int[] latest = results.get(results.size() - 1);
+                hintLabel.setText("Try " + validWord(latest[0]) + "... " + latest[1] + "%");
+            }
+        }
+
+        /**
+         * Shows the final hint unless it was cancelled
+         */
+        protected void done() {
+            if (isCancelled() || hintWorker != this) {
+                return;
+            }
+            hintWorker = null;
+            try {
+                hintLabel.setText("Try " + validWord(get()) + " - " + remaining.length
+                        + (remaining.length == 1 ? " answer left" : " answers left"));
+            } catch (ExecutionException e) {
+                hintLabel.setText(e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Loads the words, creates the game, and builds the prefix index off the
+     * event dispatch thread, then starts the game on it
+     */
+    private class Loader extends SwingWorker<Wolfle, Void> {
+
+        /** Secret word used for testing */
+        private final String secretWordForTesting;
+
+        /** System.nanoTime() when the program was launched */
+        private final long launchNanos;
+
+        /** Prefix index built by the worker */
+        private PrefixIndex index;
+
+        /** Solver built by the worker */
+        private Solver gameSolver;
+
+        /**
+         * Creates a loader
+         * 
+         * @param secretWordForTesting secret word used for testing
+         * @param launchNanos System.nanoTime() when the program was launched
+         */
+        Loader(String secretWordForTesting, long launchNanos) {
+            this.secretWordForTesting = secretWordForTesting;
+            this.launchNanos = launchNanos;
+        }
+
+        /**
+         * Reads the word files and builds the game and index
+         * 
+         * @return the new game
+         */
+        protected Wolfle doInBackground() {
+            Wolfle game = new Wolfle(secretWordForTesting);
+            index = new PrefixIndex(game.getLexicon().getValidWords());
+            gameSolver = new Solver(game.getLexicon());
+            return game;
+        }
+
+        /**
+         * Starts the game, or shows why it could not be loaded
+         */
+        protected void done() {
+            try {
+                start(get(), index, gameSolver);
+                WolfleMetrics.getDefault().ready(System.nanoTime() - launchNanos);
+            } catch (ExecutionException e) {
+                messageLabel.setText(e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
         }
     }
 
     /**
-     * Start Wolfle GUI
+     * Start Wolfle GUI. The window is created on the event dispatch thread.
      * 
      * @param args args[0] optional secret word for testing
      */
     public static void main(String[] args) {
-        if (args.length == 0) {
-            new WolfleGUI("");
-        } else if (args.length == 1) {
-            new WolfleGUI(args[0]);
+        long launchNanos = System.nanoTime();
+        if (args.length <= 1) {
+            String secretWord = args.length == 0 ? "" : args[0];
+            SwingUtilities.invokeLater(() -> new WolfleGUI(secretWord, launchNanos));
         } else {
             System.out.println("Usage: java -cp bin WolfleGUI <secret word>");
         }
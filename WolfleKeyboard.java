@@ -0,0 +1,291 @@
+import java.awt.*;
+import java.awt.event.*;
+import javax.swing.*;
+
+/**
+ * This class paints the letter, BACK and ENTER keys of a Wolfle game as a
+ * single component and reports clicks on enabled keys as action events whose
+ * command is the letter, "BACK" or "ENTER". Only the keys that change are
+ * repainted.
+ *
+ * @author Roshni Desai
+ */
+public class WolfleKeyboard extends JComponent {
+
+    /** Action command of the back key */
+    public static final String BACK = "BACK";
+
+    /** Action command of the enter key */
+    public static final String ENTER = "ENTER";
+
+    /** Preferred height of a row of keys in pixels */
+    public static final int KEY_HEIGHT = 40;
+
+    /** Index of the back key, after the letters */
+    private static final int BACK_KEY = Alphabet.MAX_LETTERS;
+
+    /** Index of the enter key */
+    private static final int ENTER_KEY = Alphabet.MAX_LETTERS + 1;
+
+    /** Number of keys */
+    private static final int KEYS = Alphabet.MAX_LETTERS + 2;
+
+    /** Number of rows of letter keys; the enter key is a row of its own */
+    private static final int ROWS = WolfleGUI.LTR_ROWS;
+
+    /** Number of keys in each row of letter keys */
+    private static final int COLS = WolfleGUI.LTR_COLS;
+
+    /** Color of the outline of every key */
+    private static final Color OUTLINE = Color.DARK_GRAY;
+
+    /** Color of the label of a disabled key */
+    private static final Color DISABLED = Color.GRAY;
+
+    /** Label and action command of each key */
+    private final String[] commands;
+
+    /** Letter of each letter key, drawn without creating strings */
+    private final char[] letters;
+
+    /** Status of each letter */
+    private final Letter.Status[] statuses;
+
+    /** Whether each key is enabled */
+    private final boolean[] enabled;
+
+    /** Background of a key whose letter has not been guessed */
+    private final Color keyColor;
+
+    /** Clip rectangle reused by every paint */
+    private final Rectangle clip;
+
+    /** Metrics of the font, looked up on the first paint */
+    private FontMetrics metrics;
+
+    /**
+     * Creates a keyboard with every letter key enabled and the BACK and ENTER
+     * keys disabled
+     */
+    public WolfleKeyboard() {
+        commands = new String[KEYS];
+        letters = new char[Alphabet.MAX_LETTERS];
+        statuses = new Letter.Status[Alphabet.MAX_LETTERS];
+        enabled = new boolean[KEYS];
+        for (int i = 0; i < Alphabet.MAX_LETTERS; i++) {
+            letters[i] = (char) ('A' + i);
+            commands[i] = String.valueOf(letters[i]);
+            statuses[i] = Letter.Status.NOT_GUESSED;
+            enabled[i] = true;
+        }
+        commands[BACK_KEY] = BACK;
+        commands[ENTER_KEY] = ENTER;
+        Color buttonColor = UIManager.getColor("Button.background");
+        keyColor = buttonColor == null ? Color.WHITE : buttonColor;
+        clip = new Rectangle();
+        setFont(WolfleGUI.LETTER);
+        setOpaque(true);
+        setPreferredSize(new Dimension(WolfleGUI.WIDTH, (ROWS + 1) * KEY_HEIGHT));
+        addMouseListener(new MouseAdapter() {
+            public void mousePressed(MouseEvent e) {
+                int key = keyAt(e.getX(), e.getY());
+                if (key >= 0 && enabled[key]) {
+                    fireAction(key, e.getModifiersEx());
+                }
+            }
+        });
+    }
+
+    /**
+     * Adds a listener for clicks on enabled keys
+     *
+     * @param listener listener to add
+     */
+    public void addActionListener(ActionListener listener) {
+        listenerList.add(ActionListener.class, listener);
+    }
+
+    /**
+     * Removes a listener added with addActionListener
+     *
+     * @param listener listener to remove
+     */
+    public void removeActionListener(ActionListener listener) {
+        listenerList.remove(ActionListener.class, listener);
+    }
+
+    /**
+     * Enables exactly the letter keys whose bits are set
+     *
+     * @param mask one bit per alphabet index
+     */
+    public void setEnabledLetters(int mask) {
+        for (int i = 0; i < Alphabet.MAX_LETTERS; i++) {
+            setKeyEnabled(i, (mask & 1 << i) != 0);
+        }
+    }
+
+    /**
+     * Enables or disables the BACK key
+     *
+     * @param isEnabled true to enable the key
+     */
+    public void setBackEnabled(boolean isEnabled) {
+        setKeyEnabled(BACK_KEY, isEnabled);
+    }
+
+    /**
+     * Enables or disables the ENTER key
+     *
+     * @param isEnabled true to enable the key
+     */
+    public void setEnterEnabled(boolean isEnabled) {
+        setKeyEnabled(ENTER_KEY, isEnabled);
+    }
+
+    /**
+     * Sets the status shown on a letter key
+     *
+     * @param index alphabet index of the letter
+     * @param status status of the letter
+     */
+    public void setStatus(int index, Letter.Status status) {
+        if (statuses[index] != status) {
+            statuses[index] = status;
+            repaintKey(index);
+        }
+    }
+
+    /**
+     * Enables or disables a key, repainting it if it changed
+     *
+     * @param key index of the key
+     * @param isEnabled true to enable the key
+     */
+    private void setKeyEnabled(int key, boolean isEnabled) {
+        if (enabled[key] != isEnabled) {
+            enabled[key] = isEnabled;
+            repaintKey(key);
+        }
+    }
+
+    /**
+     * Sends an action event for a key to every listener
+     *
+     * @param key index of the key
+     * @param modifiers modifier keys held during the click
+     */
+    private void fireAction(int key, int modifiers) {
+        ActionEvent event = null;
+        Object[] listeners = listenerList.getListenerList();
+        for (int i = listeners.length - 2; i >= 0; i -= 2) {
+            if (listeners[i] == ActionListener.class) {
+                if (event == null) {
+                    event = new ActionEvent(this, ActionEvent.ACTION_PERFORMED, commands[key],
+                            System.currentTimeMillis(), modifiers);
+                }
+                ((ActionListener) listeners[i + 1]).actionPerformed(event);
+            }
+        }
+    }
+
+    /**
+     * Returns the key at a point
+     *
+     * @param x x coordinate of the point
+     * @param y y coordinate of the point
+     * @return index of the key, or -1 if there is none
+     */
+    private int keyAt(int x, int y) {
+        int keyHeight = Math.max(1, getHeight() / (ROWS + 1));
+        int keyWidth = Math.max(1, getWidth() / COLS);
+        int row = y / keyHeight;
+        if (x < 0 || y < 0 || row > ROWS) {
+            return -1;
+        }
+        if (row == ROWS) {
+            return ENTER_KEY;
+        }
+        int key = row * COLS + Math.min(COLS - 1, x / keyWidth);
+        return key < KEYS - 1 ? key : -1;
+    }
+
+    /**
+     * Repaints the rectangle of one key
+     *
+     * @param key index of the key
+     */
+    private void repaintKey(int key) {
+        int keyHeight = getHeight() / (ROWS + 1);
+        int keyWidth = getWidth() / COLS;
+        if (key == ENTER_KEY) {
+            repaint(0, ROWS * keyHeight, getWidth(), keyHeight);
+        } else {
+            repaint((key % COLS) * keyWidth, (key / COLS) * keyHeight, keyWidth, keyHeight);
+        }
+    }
+
+    /**
+     * Paints the keys that intersect the clip
+     *
+     * @param g graphics to paint with
+     */
+    protected void paintComponent(Graphics g) {
+        g.getClipBounds(clip);
+        if (clip.isEmpty()) {
+            clip.setBounds(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        ((Graphics2D) g).setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        if (metrics == null || metrics.getFont() != getFont()) {
+            metrics = getFontMetrics(getFont());
+        }
+
+        int keyHeight = Math.max(1, getHeight() / (ROWS + 1));
+        int keyWidth = Math.max(1, getWidth() / COLS);
+        for (int key = 0; key < ENTER_KEY; key++) {
+            int x = (key % COLS) * keyWidth;
+            int y = (key / COLS) * keyHeight;
+            if (clip.intersects(x, y, keyWidth, keyHeight)) {
+                paintKey(g, key, x, y, keyWidth, keyHeight);
+            }
+        }
+        if (clip.intersects(0, ROWS * keyHeight, getWidth(), keyHeight)) {
+            paintKey(g, ENTER_KEY, 0, ROWS * keyHeight, getWidth(), keyHeight);
+        }
+    }
+
+    /**
+     * Paints one key
+     *
+     * @param g graphics to paint with
+     * @param key index of the key
+     * @param x left edge of the key
+     * @param y top edge of the key
+     * @param width width of the key
+     * @param height height of the key
+     */
+    private void paintKey(Graphics g, int key, int x, int y, int width, int height) {
+        boolean guessed = key < Alphabet.MAX_LETTERS && statuses[key] != Letter.Status.NOT_GUESSED;
+        g.setColor(guessed ? WolfleBoard.colorOf(statuses[key]) : keyColor);
+        g.fillRect(x, y, width, height);
+        g.setColor(OUTLINE);
+        g.drawRect(x, y, width - 1, height - 1);
+
+        if (!enabled[key]) {
+            g.setColor(DISABLED);
+        } else if (guessed) {
+            g.setColor(WolfleGUI.GUESSED);
+        } else {
+            g.setColor(getForeground());
+        }
+        int textY = y + (height - metrics.getHeight()) / 2 + metrics.getAscent();
+        if (key < Alphabet.MAX_LETTERS) {
+            g.drawChars(letters, key, 1, x + (width - metrics.charWidth(letters[key])) / 2, textY);
+        } else {
+            g.drawString(commands[key], x + (width - metrics.stringWidth(commands[key])) / 2, textY);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package Project4.src;
+
+public interface WolfleListener {
+
+    /**
+     * called once for each guess a game accepts, after the grid, alphabet and
+     * game over state have all been updated. The event lists only what the
+     * guess changed.
+     *
+     * @param event is the changes made by the guess.
+     */
+    void gameChanged(WolfleEvent event);
+}
@@ -0,0 +1,248 @@
+package Project4.src;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public final class WolfleMetrics implements WolfleMetricsMBean {
+
+    /**
+     * the name the shared metrics are registered under in JMX.
+     */
+    public static final String OBJECT_NAME = "Project4.src:type=WolfleMetrics";
+
+    /**
+     * the metrics every game and session records into.
+     */
+    private static final WolfleMetrics DEFAULT = new WolfleMetrics();
+
+    /**
+     * the counters. Each is a LongAdder, which stripes contended increments
+     * over per-thread cells, so games on many threads do not fight over one
+     * cache line.
+     */
+    private final LongAdder gamesCreated;
+    private final LongAdder guessesProcessed;
+    private final LongAdder invalidGuesses;
+    private final LongAdder wins;
+    private final LongAdder losses;
+    private final LongAdder sessionsCreated;
+    private final LongAdder sessionsRemoved;
+
+    /**
+     * the latencies of evaluateGuess and processGuess.
+     */
+    private final LatencyHistogram evaluateGuessLatency;
+    private final LatencyHistogram processGuessLatency;
+
+    /**
+     * the startup times of the GUI, or -1 until they are recorded.
+     */
+    private volatile long timeToFirstPaint;
+    private volatile long timeToReady;
+
+    /**
+     * constructs a WolfleMetrics with every counter at zero.
+     */
+    public WolfleMetrics() {
+        gamesCreated = new LongAdder();
+        guessesProcessed = new LongAdder();
+        invalidGuesses = new LongAdder();
+        wins = new LongAdder();
+        losses = new LongAdder();
+        sessionsCreated = new LongAdder();
+        sessionsRemoved = new LongAdder();
+        evaluateGuessLatency = new LatencyHistogram();
+        processGuessLatency = new LatencyHistogram();
+        timeToFirstPaint = -1;
+        timeToReady = -1;
+    }
+
+    /**
+     * returns the metrics that every game and session in this JVM records
+     * into.
+     *
+     * @return the shared metrics.
+     */
+    public static WolfleMetrics getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * registers the shared metrics with the platform MBean server under
+     * OBJECT_NAME. Registering again does nothing.
+     *
+     * @throws IllegalArgumentException if the metrics cannot be registered.
+     */
+    public static synchronized void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(DEFAULT, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Unable to register metrics");
+        }
+    }
+
+    /**
+     * returns a copy of every metric taken now. Each value is read separately,
+     * so a snapshot taken under load may mix values from slightly different
+     * moments.
+     *
+     * @return the snapshot.
+     */
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(gamesCreated.sum(), guessesProcessed.sum(),
+                invalidGuesses.sum(), wins.sum(), losses.sum(), sessionsCreated.sum(),
+                sessionsRemoved.sum(), evaluateGuessLatency.getCounts(),
+                processGuessLatency.getCounts(), timeToFirstPaint, timeToReady);
+    }
+
+    /**
+     * records a new game.
+     */
+    void gameCreated() {
+        gamesCreated.increment();
+    }
+
+    /**
+     * records a call to evaluateGuess.
+     *
+     * @param nanos is how long the call took.
+     */
+    void guessEvaluated(long nanos) {
+        evaluateGuessLatency.record(nanos);
+    }
+
+    /**
+     * records a call to processGuess that accepted the guess.
+     *
+     * @param nanos is how long the call took.
+     * @param won   is true if the guess won the game.
+     * @param lost  is true if the guess used the last row without winning.
+     */
+    void guessProcessed(long nanos, boolean won, boolean lost) {
+        guessesProcessed.increment();
+        if (won) {
+            wins.increment();
+        } else if (lost) {
+            losses.increment();
+        }
+        processGuessLatency.record(nanos);
+    }
+
+    /**
+     * records a call to processGuess that rejected the guess.
+     *
+     * @param nanos is how long the call took.
+     */
+    void guessRejected(long nanos) {
+        invalidGuesses.increment();
+        processGuessLatency.record(nanos);
+    }
+
+    /**
+     * records a new session.
+     */
+    void sessionCreated() {
+        sessionsCreated.increment();
+    }
+
+    /**
+     * records sessions that were removed or expired.
+     *
+     * @param count is the number of sessions.
+     */
+    void sessionsRemoved(int count) {
+        sessionsRemoved.add(count);
+    }
+
+    /**
+     * records how long the GUI took from launch to its first paint. The GUI
+     * lives outside this package, so this recorder is public.
+     *
+     * @param nanos is the time since launch.
+     */
+    public void firstPaint(long nanos) {
+        timeToFirstPaint = nanos;
+    }
+
+    /**
+     * records how long the GUI took from launch until it accepted input.
+     *
+     * @param nanos is the time since launch.
+     */
+    public void ready(long nanos) {
+        timeToReady = nanos;
+    }
+
+    @Override
+    public long getGamesCreated() {
+        return gamesCreated.sum();
+    }
+
+    @Override
+    public long getGuessesProcessed() {
+        return guessesProcessed.sum();
+    }
+
+    @Override
+    public long getInvalidGuesses() {
+        return invalidGuesses.sum();
+    }
+
+    @Override
+    public long getWins() {
+        return wins.sum();
+    }
+
+    @Override
+    public long getLosses() {
+        return losses.sum();
+    }
+
+    @Override
+    public long getSessionsCreated() {
+        return sessionsCreated.sum();
+    }
+
+    @Override
+    public long getSessionsRemoved() {
+        return sessionsRemoved.sum();
+    }
+
+    @Override
+    public long getEvaluateGuessP50Nanos() {
+        return LatencyHistogram.percentile(evaluateGuessLatency.getCounts(), 50);
+    }
+
+    @Override
+    public long getEvaluateGuessP99Nanos() {
+        return LatencyHistogram.percentile(evaluateGuessLatency.getCounts(), 99);
+    }
+
+    @Override
+    public long getProcessGuessP50Nanos() {
+        return LatencyHistogram.percentile(processGuessLatency.getCounts(), 50);
+    }
+
+    @Override
+    public long getProcessGuessP99Nanos() {
+        return LatencyHistogram.percentile(processGuessLatency.getCounts(), 99);
+    }
+
+    @Override
+    public long getTimeToFirstPaintNanos() {
+        return timeToFirstPaint;
+    }
+
+    @Override
+    public long getTimeToReadyNanos() {
+        return timeToReady;
+    }
+}
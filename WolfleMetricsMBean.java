@@ -0,0 +1,99 @@
+package Project4.src;
+
+public interface WolfleMetricsMBean {
+
+    /**
+     * returns the number of games created.
+     *
+     * @return the number of games.
+     */
+    long getGamesCreated();
+
+    /**
+     * returns the number of valid guesses processed.
+     *
+     * @return the number of guesses.
+     */
+    long getGuessesProcessed();
+
+    /**
+     * returns the number of guesses rejected by processGuess.
+     *
+     * @return the number of invalid guesses.
+     */
+    long getInvalidGuesses();
+
+    /**
+     * returns the number of games won.
+     *
+     * @return the number of wins.
+     */
+    long getWins();
+
+    /**
+     * returns the number of games lost.
+     *
+     * @return the number of losses.
+     */
+    long getLosses();
+
+    /**
+     * returns the number of sessions created.
+     *
+     * @return the number of sessions.
+     */
+    long getSessionsCreated();
+
+    /**
+     * returns the number of sessions removed or expired.
+     *
+     * @return the number of sessions.
+     */
+    long getSessionsRemoved();
+
+    /**
+     * returns the median latency of evaluateGuess, to within a factor of two.
+     *
+     * @return the latency in nanoseconds.
+     */
+    long getEvaluateGuessP50Nanos();
+
+    /**
+     * returns the 99th percentile latency of evaluateGuess, to within a factor
+     * of two.
+     *
+     * @return the latency in nanoseconds.
+     */
+    long getEvaluateGuessP99Nanos();
+
+    /**
+     * returns the median latency of processGuess, to within a factor of two.
+     *
+     * @return the latency in nanoseconds.
+     */
+    long getProcessGuessP50Nanos();
+
+    /**
+     * returns the 99th percentile latency of processGuess, to within a factor
+     * of two.
+     *
+     * @return the latency in nanoseconds.
+     */
+    long getProcessGuessP99Nanos();
+
+    /**
+     * returns how long the GUI took from launch to its first paint, or -1 if
+     * it has not painted.
+     *
+     * @return the time in nanoseconds.
+     */
+    long getTimeToFirstPaintNanos();
+
+    /**
+     * returns how long the GUI took from launch until the words were loaded
+     * and it accepted input, or -1 if it is not ready.
+     *
+     * @return the time in nanoseconds.
+     */
+    long getTimeToReadyNanos();
+}
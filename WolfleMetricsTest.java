@@ -0,0 +1,123 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+import Project4.src.GameSessionManager;
+import Project4.src.LatencyHistogram;
+import Project4.src.Lexicon;
+import Project4.src.MetricsSnapshot;
+import Project4.src.Wolfle;
+import Project4.src.WolfleMetrics;
+
+/**
+ * Tests WolfleMetrics, MetricsSnapshot and LatencyHistogram classes
+ *
+ * @author Roshni Desai
+ */
+public class WolfleMetricsTest {
+
+    /**
+     * Test games record their guesses, wins and losses
+     */
+    @Test
+    public void testGameCounters() {
+        WolfleMetrics metrics = WolfleMetrics.getDefault();
+        MetricsSnapshot before = metrics.snapshot();
+        Wolfle won = new Wolfle("ELEGY");
+        assertFalse(won.processGuess("NOTIT", 0), "Test invalid guess");
+        won.evaluateGuess("ALBUM");
+        won.processGuess("ALBUM", 0);
+        won.processGuess("ELEGY", 1);
+        Wolfle lost = new Wolfle("ELEGY");
+        for (int row = 0; row < Wolfle.ROWS; row++) {
+            lost.processGuess("ALBUM", row);
+        }
+        MetricsSnapshot after = metrics.snapshot();
+
+        // other tests may run at the same time, so only check lower bounds
+        assertTrue(after.getGamesCreated() - before.getGamesCreated() >= 2, "Test games created");
+        assertTrue(after.getGuessesProcessed() - before.getGuessesProcessed() >= 8,
+                "Test guesses processed");
+        assertTrue(after.getInvalidGuesses() - before.getInvalidGuesses() >= 1,
+                "Test invalid guesses");
+        assertTrue(after.getWins() - before.getWins() >= 1, "Test wins");
+        assertTrue(after.getLosses() - before.getLosses() >= 1, "Test losses");
+        assertTrue(after.getEvaluateGuessCount() - before.getEvaluateGuessCount() >= 1,
+                "Test evaluateGuess latency recorded");
+        assertTrue(after.getProcessGuessCount() - before.getProcessGuessCount() >= 9,
+                "Test processGuess latency recorded");
+        assertTrue(after.toString().startsWith("Games created: "), "Test snapshot report");
+    }
+
+    /**
+     * Test sessions are counted and the metrics are published through JMX
+     */
+    @Test
+    public void testSessionsAndMBean() throws Exception {
+        WolfleMetrics metrics = WolfleMetrics.getDefault();
+        long created = metrics.getSessionsCreated();
+        long removed = metrics.getSessionsRemoved();
+        GameSessionManager manager = new GameSessionManager(Lexicon.getDefault());
+        long id = manager.create("ELEGY");
+        manager.remove(id);
+        assertTrue(metrics.getSessionsCreated() > created, "Test sessions created");
+        assertTrue(metrics.getSessionsRemoved() > removed, "Test sessions removed");
+
+        ObjectName name = new ObjectName(WolfleMetrics.OBJECT_NAME);
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name),
+                "Test MBean registered");
+        Long games = (Long) ManagementFactory.getPlatformMBeanServer().getAttribute(name,
+                "GamesCreated");
+        assertTrue(games > 0, "Test GamesCreated attribute");
+        WolfleMetrics.registerMBean();
+    }
+
+    /**
+     * Test histogram percentiles
+     */
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, LatencyHistogram.percentile(histogram.getCounts(), 50),
+                "Test empty histogram");
+        for (int i = 0; i < 98; i++) {
+            histogram.record(100);
+        }
+        histogram.record(5000);
+        histogram.record(-1);
+        assertEquals(127, LatencyHistogram.percentile(histogram.getCounts(), 50), "Test p50");
+        assertEquals(127, LatencyHistogram.percentile(histogram.getCounts(), 99), "Test p99");
+        assertEquals(8191, LatencyHistogram.percentile(histogram.getCounts(), 100), "Test max");
+        assertEquals(0, LatencyHistogram.percentile(histogram.getCounts(), 0), "Test min");
+
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> LatencyHistogram.percentile(new long[LatencyHistogram.BUCKETS], 101));
+        assertEquals("Invalid percentile", e.getMessage(),
+                "percentile Invalid percentile IllegalArgumentException message");
+    }
+
+    /**
+     * Test the GUI startup times
+     */
+    @Test
+    public void testStartupTimes() {
+        WolfleMetrics metrics = new WolfleMetrics();
+        assertEquals(-1, metrics.getTimeToFirstPaintNanos(), "Test no first paint yet");
+        assertEquals(-1, metrics.getTimeToReadyNanos(), "Test not ready yet");
+        metrics.firstPaint(5_000_000);
+        metrics.ready(80_000_000);
+        assertEquals(5_000_000, metrics.getTimeToFirstPaintNanos(), "Test time to first paint");
+        assertEquals(80_000_000, metrics.getTimeToReadyNanos(), "Test time to ready");
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(5_000_000, snapshot.getTimeToFirstPaintNanos(), "Test snapshot time to first paint");
+        assertEquals(80_000_000, snapshot.getTimeToReadyNanos(), "Test snapshot time to ready");
+        assertTrue(snapshot.toString().contains("Time to first paint/ready ns: 5000000/80000000"),
+                "Test snapshot report startup times");
+        assertEquals(-1, new WolfleMetrics().snapshot().getTimeToReadyNanos(),
+                "Test snapshot not ready yet");
+    }
+}
@@ -5,8 +5,13 @@ import java.io.FileNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import Project4.src.Feedback;
 import Project4.src.Letter;
+import Project4.src.Lexicon;
+import Project4.src.Tile;
 import Project4.src.Wolfle;
+import Project4.src.WordCode;
+import Project4.src.WordSet;
 
 //TODO: Add documentation to pass checkstyle
 
@@ -247,10 +252,19 @@ public class WolfleTest {
         public void testEvaluateGuessAllLettersPresent() {
                 Wolfle wolfle2 = new Wolfle("TASTE");
                 Letter[] guess = wolfle2.evaluateGuess("STATE");
-                // TODO: Test that returned letter array is correct
-                // 1. Create expected Letter array
-                // 2. Add an assertArrayEquals to test the evaluateGuessResult
-                fail("No test added");
+                Letter[] expected = new Letter[5];
+                expected[0] = new Letter('S');
+                expected[1] = new Letter('T');
+                expected[2] = new Letter('A');
+                expected[3] = new Letter('T');
+                expected[4] = new Letter('E');
+                expected[0].setStatus(Letter.Status.IN_WORD);
+                expected[1].setStatus(Letter.Status.IN_WORD);
+                expected[2].setStatus(Letter.Status.IN_WORD);
+                expected[3].setStatus(Letter.Status.IN_POSITION);
+                expected[4].setStatus(Letter.Status.IN_POSITION);
+                assertArrayEquals(expected, guess,
+                                "Test evaluateGuess with all letters in word");
         }
 
         /**
@@ -350,6 +364,137 @@ public class WolfleTest {
                                 "Test first row grid letter status");
         }
 
+        /**
+         * Test processGuess with a repeated letter not in word before the same
+         * letter in position
+         */
+        @Test
+        public void testProcessGuessRepeatedLetterNotInWordFirst() {
+                wolfle.processGuess("GAUGE", 0);
+                assertEquals(Letter.Status.NOT_IN_WORD, wolfle.getGridLetterStatus(0, 0),
+                                "Test grid(0,0) extra G NOT_IN_WORD");
+                assertEquals(Letter.Status.IN_POSITION, wolfle.getGridLetterStatus(0, 3),
+                                "Test grid(0,3) G IN_POSITION");
+                assertEquals(Letter.Status.IN_POSITION, wolfle.getLetterStatus(6),
+                                "Test letter G IN_POSITION");
+        }
+
+        /**
+         * Test hard mode rejects guesses that ignore revealed letters
+         */
+        @Test
+        public void testHardMode() {
+                assertFalse(wolfle.isHardMode(), "Test default is not hard mode");
+                Wolfle hard = new Wolfle(Lexicon.getDefault(), "ELEGY", true);
+                assertTrue(hard.isHardMode(), "Test hard mode");
+                assertTrue(hard.satisfiesConstraints("ALBUM"), "Test any word before first guess");
+                assertTrue(hard.processGuess("ALBUM", 0), "Test first guess accepted");
+                assertFalse(hard.processGuess("GRUNT", 1), "Test guess without L in position");
+                assertFalse(hard.satisfiesConstraints("HOTEL"), "Test L in wrong column");
+                assertTrue(hard.processGuess("ILEUM", 1), "Test guess keeping L in position");
+                // ILEUM reveals E IN_POSITION, so E must now be in column 2
+                assertFalse(hard.processGuess("OLDER", 2), "Test guess moving E");
+                assertTrue(hard.processGuess("ELEGY", 2), "Test winning guess");
+                assertTrue(hard.isGameOverCorrectGuess(), "Test game won in hard mode");
+
+                Wolfle normal = new Wolfle("ELEGY");
+                normal.processGuess("ALBUM", 0);
+                assertFalse(normal.satisfiesConstraints("GRUNT"), "Test constraint check in normal mode");
+                assertTrue(normal.processGuess("GRUNT", 1), "Test normal mode ignores constraints");
+        }
+
+        /**
+         * Test hard mode requires a letter found twice to be reused twice
+         */
+        @Test
+        public void testHardModeRepeatedLetter() {
+                Wolfle hard = new Wolfle(Lexicon.getDefault(), "ELEGY", true);
+                // EERIE finds both E's of ELEGY, one in position and one in the word
+                assertTrue(hard.processGuess("EERIE", 0), "Test first guess accepted");
+                assertFalse(hard.satisfiesConstraints("EXTRA"), "Test one E is not enough");
+                assertTrue(hard.satisfiesConstraints("EMBED"), "Test two E's");
+                assertFalse(hard.satisfiesConstraints("E"), "Test invalid word");
+        }
+
+        /**
+         * Test remainingCount and remainingCandidates narrow with each guess
+         */
+        @Test
+        public void testRemainingCandidates() {
+                WordSet answers = Lexicon.getDefault().getWolfleWords();
+                assertEquals(answers.size(), wolfle.remainingCount(),
+                                "Test every answer remains after construction");
+                assertEquals(-1, wolfle.getLastPattern(), "Test no last pattern before a guess");
+                wolfle.processGuess("NOTIT", 0);
+                assertEquals(answers.size(), wolfle.remainingCount(),
+                                "Test invalid guess does not narrow");
+
+                String[] guesses = { "RANGE", "GRUNT" };
+                int expected = 0;
+                for (int row = 0; row < guesses.length; row++) {
+                        wolfle.processGuess(guesses[row], row);
+                }
+                long[] candidates = wolfle.remainingCandidates();
+                Feedback feedback = new Feedback();
+                int secret = WordCode.encode("ELEGY");
+                for (int i = 0; i < answers.size(); i++) {
+                        boolean consistent = true;
+                        for (String guess : guesses) {
+                                int code = WordCode.encode(guess);
+                                if (feedback.evaluate(code, answers.getCode(i)) != feedback.evaluate(code, secret)) {
+                                        consistent = false;
+                                }
+                        }
+                        boolean set = (candidates[i >>> 6] & (1L << i)) != 0;
+                        assertEquals(consistent, set, "Test candidate bit for " + WordCode.decode(answers.getCode(i)));
+                        if (consistent) {
+                                expected++;
+                        }
+                }
+                assertEquals(expected, wolfle.remainingCount(), "Test remainingCount after guesses");
+                assertEquals(new Feedback().evaluate(WordCode.encode("GRUNT"), secret),
+                                wolfle.getLastPattern(), "Test getLastPattern after guesses");
+                wolfle.processGuess("NOTIT", 2);
+                assertEquals(new Feedback().evaluate(WordCode.encode("GRUNT"), secret),
+                                wolfle.getLastPattern(), "Test invalid guess keeps last pattern");
+                wolfle.processGuess("ELEGY", 2);
+                assertEquals(Feedback.ALL_IN_POSITION, wolfle.getLastPattern(), "Test getLastPattern after win");
+                assertEquals(1, wolfle.remainingCount(), "Test one candidate after winning");
+        }
+
+        /**
+         * Test the candidates left by guesses with repeated letters match the
+         * words that give the same feedback, for many secret words
+         */
+        @Test
+        public void testCandidatesMatchFeedback() {
+                Lexicon lexicon = Lexicon.getDefault();
+                WordSet answers = lexicon.getWolfleWords();
+                Feedback feedback = new Feedback();
+                String[] guesses = { "EERIE", "SISSY", "MAMMA", "LLAMA", "GEESE", "EAGLE" };
+                for (int s = 0; s < answers.size(); s += 41) {
+                        int secret = answers.getCode(s);
+                        for (String guess : guesses) {
+                                Wolfle game = new Wolfle(lexicon, WordCode.decode(secret));
+                                game.processGuess(guess, 0);
+                                long[] candidates = game.remainingCandidates();
+                                int code = WordCode.encode(guess);
+                                int pattern = feedback.evaluate(code, secret);
+                                int expected = 0;
+                                for (int i = 0; i < answers.size(); i++) {
+                                        boolean consistent = feedback.evaluate(code, answers.getCode(i)) == pattern;
+                                        assertEquals(consistent, (candidates[i >>> 6] & (1L << i)) != 0,
+                                                        "Test candidate " + WordCode.decode(answers.getCode(i))
+                                                                        + " after " + guess);
+                                        if (consistent) {
+                                                expected++;
+                                        }
+                                }
+                                assertEquals(expected, game.remainingCount(), "Test remainingCount after " + guess);
+                        }
+                }
+        }
+
         /**
          * Test the Wolfle methods with invalid values
          */
@@ -403,4 +548,51 @@ public class WolfleTest {
 
         }
 
-}
\ No newline at end of file
+        /**
+         * Tests a game with more rows than the default
+         */
+        @Test
+        public void testCustomRows() {
+                Wolfle game = new Wolfle(Lexicon.getDefault(), 8, "ELEGY", false);
+                assertEquals(8, game.getRows(), "Test rows");
+                assertEquals(Wolfle.COLS, game.getCols(), "Test cols");
+                for (int row = 0; row < 7; row++) {
+                        assertTrue(game.processGuess("CHURN", row), "Test guess in row " + row);
+                }
+                assertFalse(game.isGameOverNoMoreGuesses(), "Test game not over after seven guesses");
+                assertEquals('C', game.getGridLetter(6, 0), "Test letter in row 6");
+                assertTrue(game.processGuess("CHURN", 7), "Test guess in last row");
+                assertTrue(game.isGameOverNoMoreGuesses(), "Test game over after last row");
+                Exception e = assertThrows(IllegalArgumentException.class,
+                                () -> game.processGuess("CHURN", 8));
+                assertEquals("Invalid grid row", e.getMessage(), "Test row past custom rows");
+                e = assertThrows(IllegalArgumentException.class,
+                                () -> new Wolfle(Lexicon.getDefault(), 0, "ELEGY", false));
+                assertEquals("Invalid rows", e.getMessage(), "Test Invalid rows message");
+        }
+
+        /**
+         * Test evaluateTiles and the Tile getters agree with the Letter ones
+         */
+        @Test
+        public void testTiles() {
+                Letter[] letters = wolfle.evaluateGuess("EAGLE");
+                Tile[] tiles = wolfle.evaluateTiles("EAGLE");
+                assertEquals(letters.length, tiles.length, "Test evaluateTiles length");
+                for (int i = 0; i < tiles.length; i++) {
+                        assertSame(Tile.of(letters[i].getLetter(), letters[i].getStatus()), tiles[i],
+                                        "Test evaluateTiles column " + i);
+                }
+                assertNull(wolfle.evaluateTiles("NOTIT"), "Test evaluateTiles invalid word");
+                assertThrows(IllegalArgumentException.class, () -> wolfle.evaluateTiles(null));
+
+                assertTrue(wolfle.processGuess("EAGLE", 0));
+                for (int i = 0; i < tiles.length; i++) {
+                        assertSame(tiles[i], wolfle.getGridTile(0, i), "Test getGridTile column " + i);
+                }
+                assertSame(Tile.of('_', Letter.Status.NOT_GUESSED), wolfle.getGridTile(1, 0),
+                                "Test getGridTile unguessed row");
+                assertSame(Tile.of('A', Letter.Status.NOT_IN_WORD), wolfle.getLetterTile(0),
+                                "Test getLetterTile");
+        }
+}
@@ -0,0 +1,223 @@
+package Project4.src;
+
+public final class WordCode {
+
+    /**
+     * the number of bits used to store each letter of a word.
+     */
+    public static final int BITS_PER_LETTER = 5;
+
+    /**
+     * mask that selects a single letter from a code once it is shifted down.
+     */
+    public static final int LETTER_MASK = (1 << BITS_PER_LETTER) - 1;
+
+    /**
+     * the code returned for a word that cannot be encoded.
+     */
+    public static final int INVALID = -1;
+
+    /**
+     * the shortest word length that can be encoded.
+     */
+    public static final int MIN_LENGTH = 4;
+
+    /**
+     * the longest word length that can be encoded. Words of up to
+     * MAX_INT_LENGTH letters have int codes; longer ones only have long codes
+     * from encodeLong.
+     */
+    public static final int MAX_LENGTH = 8;
+
+    /**
+     * the longest word length with an int code: six letters of five bits fill
+     * 30 bits, and a seventh would not fit in an int.
+     */
+    public static final int MAX_INT_LENGTH = 6;
+
+    /**
+     * the number of distinct codes for words of Wolfle.COLS letters.
+     */
+    public static final int CODE_SPACE = codeSpace(Wolfle.COLS);
+
+    /**
+     * prevents construction; this class only has static helpers.
+     */
+    private WordCode() {
+    }
+
+    /**
+     * checks if words of the given length can be encoded.
+     *
+     * @param length is the number of letters.
+     * @return true if the length is from MIN_LENGTH to MAX_LENGTH.
+     */
+    public static boolean isValidLength(int length) {
+        return length >= MIN_LENGTH && length <= MAX_LENGTH;
+    }
+
+    /**
+     * checks if words of the given length have int codes.
+     *
+     * @param length is the number of letters.
+     * @return true if the length is from MIN_LENGTH to MAX_INT_LENGTH.
+     */
+    public static boolean fitsInt(int length) {
+        return length >= MIN_LENGTH && length <= MAX_INT_LENGTH;
+    }
+
+    /**
+     * returns the number of distinct codes for words of the given length.
+     *
+     * @param length is the number of letters, from MIN_LENGTH to
+     *               MAX_INT_LENGTH.
+     * @return the size of the code space.
+     */
+    public static int codeSpace(int length) {
+        return 1 << (BITS_PER_LETTER * length);
+    }
+
+    /**
+     * encodes a word of Wolfle.COLS letters as an integer with 5 bits per
+     * letter, 'A' as 0 and the first letter in the lowest bits. This method
+     * does not allocate.
+     *
+     * @param word is the word to encode.
+     * @return the code for the word, or INVALID if the word is null, is not
+     *         Wolfle.COLS letters long, or contains a character outside A-Z.
+     */
+    public static int encode(String word) {
+        return encode(word, Wolfle.COLS);
+    }
+
+    /**
+     * encodes a word of the given length like encode(String). Codes are only
+     * comparable between words of the same length, since a trailing 'A' adds
+     * no set bits.
+     *
+     * @param word   is the word to encode.
+     * @param length is the length the word must have.
+     * @return the code for the word, or INVALID if the word is null, is not
+     *         length letters long, contains a character outside A-Z, or the
+     *         length is above MAX_INT_LENGTH.
+     */
+    public static int encode(String word, int length) {
+        if (word == null || word.length() != length || !fitsInt(length)) {
+            return INVALID;
+        }
+        int code = 0;
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            if (c < Letter.FIRST_LETTER || c > Letter.LAST_LETTER) {
+                return INVALID;
+            }
+            code |= (c - Letter.FIRST_LETTER) << (i * BITS_PER_LETTER);
+        }
+        return code;
+    }
+
+    /**
+     * encodes a word of the given length like encode(String, int), but as a
+     * long, so that words of up to MAX_LENGTH letters can be encoded. For
+     * lengths up to MAX_INT_LENGTH the value is the same as the int code.
+     *
+     * @param word   is the word to encode.
+     * @param length is the length the word must have.
+     * @return the code for the word, or INVALID if the word is null, is not
+     *         length letters long, or contains a character outside A-Z.
+     */
+    public static long encodeLong(String word, int length) {
+        if (word == null || word.length() != length || !isValidLength(length)) {
+            return INVALID;
+        }
+        long code = 0;
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            if (c < Letter.FIRST_LETTER || c > Letter.LAST_LETTER) {
+                return INVALID;
+            }
+            code |= (long) (c - Letter.FIRST_LETTER) << (i * BITS_PER_LETTER);
+        }
+        return code;
+    }
+
+    /**
+     * decodes a code produced by encode back into its word of Wolfle.COLS
+     * letters.
+     *
+     * @param code is the code to decode.
+     * @return the word for the code.
+     * @throws IllegalArgumentException if the code is not a valid word code.
+     */
+    public static String decode(int code) {
+        return decode(code, Wolfle.COLS);
+    }
+
+    /**
+     * decodes a code back into its word of the given length.
+     *
+     * @param code   is the code to decode.
+     * @param length is the length of the word.
+     * @return the word for the code.
+     * @throws IllegalArgumentException if the length has no int codes or the
+     *                                  code is not a valid word code.
+     */
+    public static String decode(int code, int length) {
+        if (!fitsInt(length)) {
+            throw new IllegalArgumentException("Invalid word length");
+        }
+        return decodeLong(code, length);
+    }
+
+    /**
+     * decodes a code produced by encodeLong back into its word of the given
+     * length.
+     *
+     * @param code   is the code to decode.
+     * @param length is the length of the word.
+     * @return the word for the code.
+     * @throws IllegalArgumentException if the length cannot be encoded or the
+     *                                  code is not a valid word code.
+     */
+    public static String decodeLong(long code, int length) {
+        if (!isValidLength(length)) {
+            throw new IllegalArgumentException("Invalid word length");
+        }
+        if (code < 0 || code >>> (BITS_PER_LETTER * length) != 0) {
+            throw new IllegalArgumentException("Invalid code");
+        }
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            int letter = letterAt(code, i);
+            if (letter >= Alphabet.MAX_LETTERS) {
+                throw new IllegalArgumentException("Invalid code");
+            }
+            letters[i] = (char) (Letter.FIRST_LETTER + letter);
+        }
+        return new String(letters);
+    }
+
+    /**
+     * returns the alphabet index (0 for 'A') of the letter in the given column
+     * of a code.
+     *
+     * @param code is the word code.
+     * @param col  is the column of the letter.
+     * @return the alphabet index of the letter.
+     */
+    public static int letterAt(int code, int col) {
+        return (code >>> (col * BITS_PER_LETTER)) & LETTER_MASK;
+    }
+
+    /**
+     * returns the alphabet index (0 for 'A') of the letter in the given column
+     * of a long code.
+     *
+     * @param code is the word code.
+     * @param col  is the column of the letter.
+     * @return the alphabet index of the letter.
+     */
+    public static int letterAt(long code, int col) {
+        return (int) (code >>> (col * BITS_PER_LETTER)) & LETTER_MASK;
+    }
+}
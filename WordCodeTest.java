@@ -0,0 +1,91 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import Project4.src.WordCode;
+
+/**
+ * Tests WordCode class
+ *
+ * @author Roshni Desai
+ */
+public class WordCodeTest {
+
+    /**
+     * Test encode packs 5 bits per letter with the first letter lowest
+     */
+    @Test
+    public void testEncode() {
+        assertEquals(0, WordCode.encode("AAAAA"), "Test encode AAAAA");
+        assertEquals(1, WordCode.encode("BAAAA"), "Test encode BAAAA");
+        assertEquals(25 << 20, WordCode.encode("AAAAZ"), "Test encode AAAAZ");
+        assertEquals(2, WordCode.letterAt(WordCode.encode("ACAAA"), 1), "Test letterAt");
+    }
+
+    /**
+     * Test encode rejects words that are not 5 capital letters
+     */
+    @Test
+    public void testEncodeInvalid() {
+        assertEquals(WordCode.INVALID, WordCode.encode(null), "Test encode null");
+        assertEquals(WordCode.INVALID, WordCode.encode(""), "Test encode empty");
+        assertEquals(WordCode.INVALID, WordCode.encode("EAGLES"), "Test encode too long");
+        assertEquals(WordCode.INVALID, WordCode.encode("eagle"), "Test encode lowercase");
+        assertEquals(WordCode.INVALID, WordCode.encode("EA_LE"), "Test encode underscore");
+    }
+
+    /**
+     * Test decode reverses encode
+     */
+    @Test
+    public void testDecode() {
+        assertEquals("ELEGY", WordCode.decode(WordCode.encode("ELEGY")), "Test decode ELEGY");
+        assertEquals("ZZZZZ", WordCode.decode(WordCode.encode("ZZZZZ")), "Test decode ZZZZZ");
+        Exception e = assertThrows(IllegalArgumentException.class, () -> WordCode.decode(-1));
+        assertEquals("Invalid code", e.getMessage(), "decode Invalid code message for negative code");
+        e = assertThrows(IllegalArgumentException.class, () -> WordCode.decode(31));
+        assertEquals("Invalid code", e.getMessage(), "decode Invalid code message for letter past Z");
+    }
+
+    /**
+     * Test encode and decode for other word lengths
+     */
+    @Test
+    public void testOtherLengths() {
+        assertEquals("WOLF", WordCode.decode(WordCode.encode("WOLF", 4), 4), "Test four letters");
+        assertEquals("WOLFIE", WordCode.decode(WordCode.encode("WOLFIE", 6), 6), "Test six letters");
+        assertEquals(WordCode.INVALID, WordCode.encode("WOLFIE", 5), "Test encode wrong length");
+        assertEquals(WordCode.INVALID, WordCode.encode("WOLFISH", 7), "Test encode length too big");
+        assertEquals(1 << 20, WordCode.codeSpace(4), "Test codeSpace for four letters");
+        assertFalse(WordCode.isValidLength(WordCode.MAX_LENGTH + 1), "Test length too big");
+        assertFalse(WordCode.isValidLength(WordCode.MIN_LENGTH - 1), "Test length too small");
+        Exception e = assertThrows(IllegalArgumentException.class, () -> WordCode.decode(0, 7));
+        assertEquals("Invalid word length", e.getMessage(), "decode Invalid word length message");
+    }
+
+    /**
+     * Test encodeLong and decodeLong for words too long for an int code
+     */
+    @Test
+    public void testLongCodes() {
+        assertEquals("WOLFISH", WordCode.decodeLong(WordCode.encodeLong("WOLFISH", 7), 7),
+                "Test seven letters");
+        long code = WordCode.encodeLong("ZZZZZZZZ", 8);
+        assertEquals("ZZZZZZZZ", WordCode.decodeLong(code, 8), "Test eight letters");
+        assertTrue(code > Integer.MAX_VALUE, "Test eight letter code does not fit an int");
+        assertEquals('T' - 'A', WordCode.letterAt(WordCode.encodeLong("ELEPHANT", 8), 7),
+                "Test letterAt last column");
+        assertEquals(WordCode.encode("ELEGY"), WordCode.encodeLong("ELEGY", 5),
+                "Test long code matches int code");
+        assertEquals(WordCode.INVALID, WordCode.encodeLong("ELEPHANTS", 9), "Test length too big");
+        assertEquals(WordCode.INVALID, WordCode.encodeLong("elephant", 8), "Test lowercase word");
+        assertTrue(WordCode.isValidLength(8), "Test eight letters is valid");
+        assertTrue(WordCode.fitsInt(6), "Test six letters fit an int");
+        assertFalse(WordCode.fitsInt(7), "Test seven letters do not fit an int");
+        Exception e = assertThrows(IllegalArgumentException.class,
+                () -> WordCode.decodeLong(1L << 40, 8));
+        assertEquals("Invalid code", e.getMessage(), "decodeLong Invalid code message");
+        e = assertThrows(IllegalArgumentException.class, () -> WordCode.decodeLong(0, 9));
+        assertEquals("Invalid word length", e.getMessage(), "decodeLong Invalid word length message");
+    }
+}
@@ -0,0 +1,293 @@
+package Project4.src;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public final class WordListLoader {
+
+    /**
+     * the size of each read from the file.
+     */
+    private static final int CHUNK_BYTES = 1 << 16;
+
+    /**
+     * the most bad lines listed in the error message.
+     */
+    private static final int MAX_REPORTED = 10;
+
+    /**
+     * the most characters of a bad line shown in the error message.
+     */
+    private static final int MAX_SHOWN = 16;
+
+    /**
+     * the path of the file being read, for error messages.
+     */
+    private final String filePath;
+
+    /**
+     * the number of letters every word must have.
+     */
+    private final int wordLength;
+
+    /**
+     * the codes of the distinct words read so far, in file order. The array
+     * doubles when it fills.
+     */
+    private long[] codes;
+    private int size;
+
+    /**
+     * one bit per WordCode already read, for words up to Wolfle.COLS letters.
+     * Longer words have too many codes for a bitset, so they are tracked in
+     * seenTable instead, an open-addressing hash set of code + 1.
+     */
+    private final long[] seen;
+    private long[] seenTable;
+
+    /**
+     * the state of the line being read: its number, the code and length so
+     * far, whether it has a character other than A-Z, and whether the last
+     * character was a carriage return.
+     */
+    private int line;
+    private long code;
+    private int length;
+    private boolean invalid;
+    private boolean carriageReturn;
+
+    /**
+     * the first characters of the line being read, for error messages.
+     */
+    private final StringBuilder shown;
+
+    /**
+     * the error message so far and the number of bad lines.
+     */
+    private final StringBuilder errors;
+    private int errorCount;
+
+    /**
+     * constructs a WordListLoader for one file.
+     *
+     * @param filePath   is the path of the file.
+     * @param wordLength is the number of letters every word must have.
+     */
+    private WordListLoader(String filePath, int wordLength) {
+        this.filePath = filePath;
+        this.wordLength = wordLength;
+        this.codes = new long[1024];
+        if (wordLength <= Wolfle.COLS) {
+            this.seen = new long[Math.max(1, WordCode.codeSpace(wordLength) >>> 6)];
+        } else {
+            this.seen = null;
+            this.seenTable = new long[2048];
+        }
+        this.line = 1;
+        this.shown = new StringBuilder();
+        this.errors = new StringBuilder();
+    }
+
+    /**
+     * reads a list of words of Wolfle.COLS letters; see load(String, int).
+     *
+     * @param filePath is the path of the file to read.
+     * @return the WordCodes of the distinct words, in file order.
+     * @throws IllegalArgumentException if the path is null, the file cannot be
+     *                                  read, or a line is not a valid word.
+     */
+    public static int[] load(String filePath) {
+        return load(filePath, Wolfle.COLS);
+    }
+
+    /**
+     * reads a word list in a single pass through a FileChannel. Every line
+     * must be exactly wordLength letters from A to Z, ending in a line feed
+     * or a carriage return and line feed; the last line may omit it. A word
+     * that appears again is only kept the first time.
+     *
+     * @param filePath   is the path of the file to read.
+     * @param wordLength is the number of letters every word must have, at
+     *                   most WordCode.MAX_INT_LENGTH.
+     * @return the WordCodes of the distinct words, in file order.
+     * @throws IllegalArgumentException if the path is null, the length has no
+     *                                  int codes, the file cannot be read, or
+     *                                  a line is not a valid word. The message
+     *                                  gives the line numbers of the bad lines.
+     */
+    public static int[] load(String filePath, int wordLength) {
+        if (filePath == null) {
+            throw new IllegalArgumentException("Null file path");
+        }
+        if (!WordCode.fitsInt(wordLength)) {
+            throw new IllegalArgumentException("Invalid word length");
+        }
+        long[] longCodes = loadLong(filePath, wordLength);
+        int[] codes = new int[longCodes.length];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = (int) longCodes[i];
+        }
+        return codes;
+    }
+
+    /**
+     * reads a word list like load(String, int), but returns long codes, so
+     * that it works for words of up to WordCode.MAX_LENGTH letters.
+     *
+     * @param filePath   is the path of the file to read.
+     * @param wordLength is the number of letters every word must have.
+     * @return the long WordCodes of the distinct words, in file order.
+     * @throws IllegalArgumentException if the path is null, the length cannot
+     *                                  be encoded, the file cannot be read, or
+     *                                  a line is not a valid word.
+     */
+    public static long[] loadLong(String filePath, int wordLength) {
+        if (filePath == null) {
+            throw new IllegalArgumentException("Null file path");
+        }
+        if (!WordCode.isValidLength(wordLength)) {
+            throw new IllegalArgumentException("Invalid word length");
+        }
+        WordListLoader loader = new WordListLoader(filePath, wordLength);
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_BYTES);
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                loader.parse(buffer.array(), buffer.limit());
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to access file: " + filePath);
+        }
+        return loader.finish();
+    }
+
+    /**
+     * reads a chunk of the file.
+     *
+     * @param bytes is the chunk.
+     * @param limit is the number of bytes in the chunk.
+     */
+    private void parse(byte[] bytes, int limit) {
+        for (int i = 0; i < limit; i++) {
+            byte b = bytes[i];
+            if (b == '\n') {
+                endLine();
+                continue;
+            }
+            if (carriageReturn) {
+                invalid = true;
+                carriageReturn = false;
+            }
+            if (b == '\r') {
+                carriageReturn = true;
+                continue;
+            }
+            if (b >= 'A' && b <= 'Z' && length < wordLength) {
+                code |= (long) (b - 'A') << (length * WordCode.BITS_PER_LETTER);
+            } else {
+                invalid = true;
+            }
+            if (length < MAX_SHOWN) {
+                shown.append((char) (b & 0xFF));
+            }
+            length++;
+        }
+    }
+
+    /**
+     * checks and stores the line just read, and starts the next one.
+     */
+    private void endLine() {
+        if (invalid || length != wordLength) {
+            errorCount++;
+            if (errorCount <= MAX_REPORTED) {
+                errors.append(errorCount == 1 ? ": " : ", ").append("line ").append(line)
+                        .append(" \"").append(shown).append(length > MAX_SHOWN ? "...\"" : "\"");
+            }
+        } else if (markSeen(code)) {
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+            codes[size] = code;
+            size++;
+        }
+        line++;
+        code = 0;
+        length = 0;
+        invalid = false;
+        carriageReturn = false;
+        shown.setLength(0);
+    }
+
+    /**
+     * records a word as read.
+     *
+     * @param wordCode is the code of the word.
+     * @return true if the word had not been read before.
+     */
+    private boolean markSeen(long wordCode) {
+        if (seen != null) {
+            int index = (int) (wordCode >>> 6);
+            if ((seen[index] & (1L << wordCode)) != 0) {
+                return false;
+            }
+            seen[index] |= 1L << wordCode;
+            return true;
+        }
+        if (size * 2 >= seenTable.length) {
+            long[] old = seenTable;
+            seenTable = new long[old.length * 2];
+            for (int i = 0; i < old.length; i++) {
+                if (old[i] != 0) {
+                    seenTable[probe(old[i] - 1)] = old[i];
+                }
+            }
+        }
+        int slot = probe(wordCode);
+        if (seenTable[slot] != 0) {
+            return false;
+        }
+        seenTable[slot] = wordCode + 1;
+        return true;
+    }
+
+    /**
+     * returns the slot of seenTable that holds a code, or the empty slot where
+     * it belongs.
+     *
+     * @param wordCode is the code.
+     * @return the slot.
+     */
+    private int probe(long wordCode) {
+        int mask = seenTable.length - 1;
+        int slot = (int) ((wordCode * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        while (seenTable[slot] != 0 && seenTable[slot] != wordCode + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * ends the last line and returns the words.
+     *
+     * @return the codes of the distinct words.
+     * @throws IllegalArgumentException if a line was not a valid word.
+     */
+    private long[] finish() {
+        if (length > 0 || invalid || carriageReturn) {
+            endLine();
+        }
+        if (errorCount > 0) {
+            if (errorCount > MAX_REPORTED) {
+                errors.append(" and ").append(errorCount - MAX_REPORTED).append(" more");
+            }
+            throw new IllegalArgumentException("Invalid words in " + filePath + errors);
+        }
+        return Arrays.copyOf(codes, size);
+    }
+}
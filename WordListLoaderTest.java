@@ -0,0 +1,126 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import Project4.src.Lexicon;
+import Project4.src.WordCode;
+import Project4.src.WordListLoader;
+
+/**
+ * Tests WordListLoader class
+ *
+ * @author Roshni Desai
+ */
+public class WordListLoaderTest {
+
+    /** Directory for word files */
+    @TempDir
+    File dir;
+
+    /**
+     * Writes a word file
+     *
+     * @param contents the contents of the file
+     * @return the path of the file
+     * @throws IOException if the file cannot be written
+     */
+    private String write(String contents) throws IOException {
+        File file = new File(dir, "words.txt");
+        Files.write(file.toPath(), contents.getBytes("US-ASCII"));
+        return file.getPath();
+    }
+
+    /**
+     * Test words are read in order without duplicates, with either line ending
+     */
+    @Test
+    public void testLoad() throws IOException {
+        int[] codes = WordListLoader.load(write("ELEGY\r\nCHAOS\nELEGY\nSISSY"));
+        assertArrayEquals(new int[] { WordCode.encode("ELEGY"), WordCode.encode("CHAOS"),
+            WordCode.encode("SISSY") }, codes, "Test codes in file order");
+        assertEquals(0, WordListLoader.load(write("")).length, "Test empty file");
+        assertEquals(1, WordListLoader.load(write("ELEGY\n")).length, "Test final line feed");
+    }
+
+    /**
+     * Test the default word files load, with duplicate answers stored once
+     */
+    @Test
+    public void testDefaultFiles() {
+        assertEquals(Lexicon.getDefault().getWolfleWords().size(),
+                WordListLoader.load(Lexicon.WOLFLE_WORDS_FILE).length, "Test distinct answers");
+        assertEquals(Lexicon.getDefault().getWolfleWords().size(),
+                Lexicon.getDefault().getWolfleWordCount(), "Test no duplicate answers");
+    }
+
+    /**
+     * Test a file with more lines than the initial buffer and chunk hold
+     */
+    @Test
+    public void testLargeFile() throws IOException {
+        StringBuilder contents = new StringBuilder();
+        for (int i = 0; i < 26 * 26 * 26; i++) {
+            contents.append("AB").append((char) ('A' + i / 676)).append((char) ('A' + i / 26 % 26))
+                    .append((char) ('A' + i % 26)).append('\n');
+        }
+        int[] codes = WordListLoader.load(write(contents.toString()));
+        assertEquals(26 * 26 * 26, codes.length, "Test every word read");
+        assertEquals("ABZZZ", WordCode.decode(codes[codes.length - 1]), "Test last word");
+    }
+
+    /**
+     * Test bad lines are reported with their line numbers
+     */
+    @Test
+    public void testInvalidLines() throws IOException {
+        String path = write("ELEGY\nelegy\n\nELEGYS\nELE Y\nCHAOS\r\rX\n");
+        Exception e = assertThrows(IllegalArgumentException.class, () -> WordListLoader.load(path));
+        assertEquals("Invalid words in " + path + ": line 2 \"elegy\", line 3 \"\", line 4 \"ELEGYS\""
+                + ", line 5 \"ELE Y\", line 6 \"CHAOSX\"", e.getMessage(), "Test bad lines reported");
+
+        StringBuilder contents = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            contents.append("ABCDEFGHIJKLMNOPQRSTUVWXYZ\n");
+        }
+        String longLines = write(contents.toString());
+        e = assertThrows(IllegalArgumentException.class, () -> WordListLoader.load(longLines));
+        assertTrue(e.getMessage().startsWith("Invalid words in " + longLines
+                + ": line 1 \"ABCDEFGHIJKLMNOP...\", line 2"), "Test long line shortened");
+        assertTrue(e.getMessage().endsWith("line 10 \"ABCDEFGHIJKLMNOP...\" and 2 more"),
+                "Test report capped");
+    }
+
+    /**
+     * Test the WordListLoader methods with invalid values
+     */
+    @Test
+    public void testExceptions() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> WordListLoader.load(null));
+        assertEquals("Null file path", e.getMessage(), "load Null file path message");
+        e = assertThrows(IllegalArgumentException.class,
+                () -> WordListLoader.load("no-such-file.txt"));
+        assertEquals("Unable to access file: no-such-file.txt", e.getMessage(),
+                "load missing file message");
+    }
+
+    /**
+     * Test loading words too long for an int code
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Test
+    public void testLoadLong() throws IOException {
+        String path = write("ELEPHANT\nASSESSES\nELEPHANT\n");
+        long[] codes = WordListLoader.loadLong(path, 8);
+        assertEquals(2, codes.length, "Test distinct words");
+        assertEquals(WordCode.encodeLong("ELEPHANT", 8), codes[0], "Test first word");
+        assertEquals(WordCode.encodeLong("ASSESSES", 8), codes[1], "Test second word");
+        Exception e = assertThrows(IllegalArgumentException.class, () -> WordListLoader.load(path, 8));
+        assertEquals("Invalid word length", e.getMessage(), "load Invalid word length message");
+    }
+}
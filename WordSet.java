@@ -0,0 +1,352 @@
+package Project4.src;
+
+import java.util.Arrays;
+
+public final class WordSet {
+
+    /**
+     * the number of letters in every word of the set.
+     */
+    private final int length;
+
+    /**
+     * one bit per possible word code; a set bit means the word is in the set.
+     * Null for words longer than Wolfle.COLS, whose code space is too large
+     * for a bitset.
+     */
+    private final long[] bits;
+
+    /**
+     * for each long in bits, the number of set bits in all the longs before it.
+     */
+    private final int[] ranks;
+
+    /**
+     * for words longer than Wolfle.COLS, an open-addressing hash table of the
+     * indexes into codes, 0 for an empty slot and index + 1 otherwise; null
+     * when bits is used.
+     */
+    private final int[] table;
+
+    /**
+     * the distinct codes in the set in ascending order, for words of up to
+     * WordCode.MAX_INT_LENGTH letters; null for longer words.
+     */
+    private final int[] codes;
+
+    /**
+     * the distinct long codes in the set in ascending order, for words of more
+     * than WordCode.MAX_INT_LENGTH letters; null for shorter words.
+     */
+    private final long[] longCodes;
+
+    /**
+     * constructs a WordSet holding the given words of Wolfle.COLS letters.
+     * Words that cannot be encoded are skipped and duplicates are stored once.
+     *
+     * @param words is the array of words to store.
+     * @throws IllegalArgumentException if the array is null.
+     */
+    public WordSet(String[] words) {
+        this(words, Wolfle.COLS);
+    }
+
+    /**
+     * constructs a WordSet holding the given words of the given length. Words
+     * that cannot be encoded at that length are skipped and duplicates are
+     * stored once.
+     *
+     * @param words  is the array of words to store.
+     * @param length is the number of letters in each word.
+     * @throws IllegalArgumentException if the array is null or the length
+     *                                  cannot be encoded.
+     */
+    public WordSet(String[] words, int length) {
+        this(encodeAll(words, length), length);
+    }
+
+    /**
+     * constructs a WordSet holding the words with the given int codes, like
+     * WordSet(long[], int).
+     *
+     * @param wordCodes is the array of WordCodes to store.
+     * @param length    is the number of letters in each word.
+     * @throws IllegalArgumentException if the array is null or the length
+     *                                  cannot be encoded.
+     */
+    WordSet(int[] wordCodes, int length) {
+        this(widen(wordCodes), length);
+    }
+
+    /**
+     * constructs a WordSet holding the words with the given long codes.
+     * Invalid codes are skipped and duplicates are stored once. Up to
+     * Wolfle.COLS letters the set is a bitset over the whole code space with
+     * a rank directory; longer words are kept in a hash table, so lookups stay
+     * constant time either way. Words of up to WordCode.MAX_INT_LENGTH
+     * letters keep int codes, so that getCode works for them.
+     *
+     * @param wordCodes is the array of long WordCodes to store.
+     * @param length    is the number of letters in each word.
+     * @throws IllegalArgumentException if the array is null or the length
+     *                                  cannot be encoded.
+     */
+    WordSet(long[] wordCodes, int length) {
+        if (wordCodes == null) {
+            throw new IllegalArgumentException("Null word list");
+        }
+        if (!WordCode.isValidLength(length)) {
+            throw new IllegalArgumentException("Invalid word length");
+        }
+        this.length = length;
+        long space = 1L << (WordCode.BITS_PER_LETTER * length);
+        long[] found = new long[wordCodes.length];
+        int size = 0;
+        for (int i = 0; i < wordCodes.length; i++) {
+            if (wordCodes[i] >= 0 && wordCodes[i] < space) {
+                found[size] = wordCodes[i];
+                size++;
+            }
+        }
+        Arrays.sort(found, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || found[i] != found[distinct - 1]) {
+                found[distinct] = found[i];
+                distinct++;
+            }
+        }
+        if (WordCode.fitsInt(length)) {
+            codes = new int[distinct];
+            for (int i = 0; i < distinct; i++) {
+                codes[i] = (int) found[i];
+            }
+            longCodes = null;
+        } else {
+            codes = null;
+            longCodes = Arrays.copyOf(found, distinct);
+        }
+
+        if (space <= WordCode.CODE_SPACE) {
+            bits = new long[(int) Math.max(1, space >>> 6)];
+            for (int i = 0; i < codes.length; i++) {
+                bits[codes[i] >>> 6] |= 1L << codes[i];
+            }
+            ranks = new int[bits.length];
+            int rank = 0;
+            for (int i = 0; i < bits.length; i++) {
+                ranks[i] = rank;
+                rank += Long.bitCount(bits[i]);
+            }
+            table = null;
+        } else {
+            bits = null;
+            ranks = null;
+            table = new int[Integer.highestOneBit(Math.max(1, distinct)) << 2];
+            for (int i = 0; i < distinct; i++) {
+                int slot = codes != null ? slotOf(codes[i]) : slotOf(longCodes[i]);
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & (table.length - 1);
+                }
+                table[slot] = i + 1;
+            }
+        }
+    }
+
+    /**
+     * encodes every word in an array.
+     *
+     * @param words  is the array of words.
+     * @param length is the number of letters in each word.
+     * @return the long WordCodes, INVALID for a word that cannot be encoded.
+     * @throws IllegalArgumentException if the array is null.
+     */
+    private static long[] encodeAll(String[] words, int length) {
+        if (words == null) {
+            throw new IllegalArgumentException("Null word list");
+        }
+        long[] codes = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            codes[i] = WordCode.encodeLong(words[i], length);
+        }
+        return codes;
+    }
+
+    /**
+     * copies int codes into a long array.
+     *
+     * @param wordCodes is the array of WordCodes.
+     * @return the same codes as longs.
+     * @throws IllegalArgumentException if the array is null.
+     */
+    private static long[] widen(int[] wordCodes) {
+        if (wordCodes == null) {
+            throw new IllegalArgumentException("Null word list");
+        }
+        long[] codes = new long[wordCodes.length];
+        for (int i = 0; i < wordCodes.length; i++) {
+            codes[i] = wordCodes[i];
+        }
+        return codes;
+    }
+
+    /**
+     * returns the first hash table slot to probe for a code.
+     *
+     * @param code is the code.
+     * @return the slot.
+     */
+    private int slotOf(int code) {
+        return (code * 0x9E3779B1) >>> 7 & (table.length - 1);
+    }
+
+    /**
+     * returns the first hash table slot to probe for a long code.
+     *
+     * @param code is the code.
+     * @return the slot.
+     */
+    private int slotOf(long code) {
+        return (int) ((code * 0x9E3779B97F4A7C15L) >>> 32) & (table.length - 1);
+    }
+
+    /**
+     * returns the number of letters in every word of the set.
+     *
+     * @return the word length.
+     */
+    public int getWordLength() {
+        return length;
+    }
+
+    /**
+     * checks if the set holds the word with the given code. This method runs in
+     * constant time and does not allocate.
+     *
+     * @param code is the code of the word to check.
+     * @return true if the word is in the set, false otherwise.
+     */
+    public boolean contains(int code) {
+        return indexOf(code) >= 0;
+    }
+
+    /**
+     * checks if the set holds the given word. This method does not allocate.
+     *
+     * @param word is the word to check.
+     * @return true if the word is in the set, false otherwise.
+     */
+    public boolean contains(String word) {
+        return contains(WordCode.encodeLong(word, length));
+    }
+
+    /**
+     * checks if the set holds the word with the given long code. This method
+     * runs in constant time and does not allocate.
+     *
+     * @param code is the long code of the word to check.
+     * @return true if the word is in the set, false otherwise.
+     */
+    public boolean contains(long code) {
+        return indexOf(code) >= 0;
+    }
+
+    /**
+     * returns the index of the given code in ascending code order, so that
+     * getCode(indexOf(code)) == code. This method runs in constant time and does
+     * not allocate.
+     *
+     * @param code is the code of the word to find.
+     * @return the index of the code, or -1 if the word is not in the set.
+     */
+    public int indexOf(int code) {
+        if (code < 0) {
+            return -1;
+        }
+        if (bits != null) {
+            if (code >>> 6 >= bits.length || (bits[code >>> 6] & (1L << code)) == 0) {
+                return -1;
+            }
+            return ranks[code >>> 6] + Long.bitCount(bits[code >>> 6] & ((1L << code) - 1));
+        }
+        if (codes == null) {
+            return indexOf((long) code);
+        }
+        int slot = slotOf(code);
+        while (table[slot] != 0) {
+            if (codes[table[slot] - 1] == code) {
+                return table[slot] - 1;
+            }
+            slot = (slot + 1) & (table.length - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * returns the index of the given long code in ascending code order, like
+     * indexOf(int). This method runs in constant time and does not allocate.
+     *
+     * @param code is the long code of the word to find.
+     * @return the index of the code, or -1 if the word is not in the set.
+     */
+    public int indexOf(long code) {
+        if (codes != null) {
+            return code == (int) code ? indexOf((int) code) : -1;
+        }
+        if (code < 0) {
+            return -1;
+        }
+        int slot = slotOf(code);
+        while (table[slot] != 0) {
+            if (longCodes[table[slot] - 1] == code) {
+                return table[slot] - 1;
+            }
+            slot = (slot + 1) & (table.length - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * returns the number of distinct words in the set.
+     *
+     * @return the size of the set.
+     */
+    public int size() {
+        return codes != null ? codes.length : longCodes.length;
+    }
+
+    /**
+     * returns the code at the given index in ascending code order.
+     *
+     * @param index is the index of the code.
+     * @return the code at the index.
+     * @throws IllegalArgumentException if the index is out of bounds or the
+     *                                  words are longer than
+     *                                  WordCode.MAX_INT_LENGTH letters, which
+     *                                  have no int code.
+     */
+    public int getCode(int index) {
+        if (codes == null) {
+            throw new IllegalArgumentException("Invalid word length");
+        }
+        if (index < 0 || index >= codes.length) {
+            throw new IllegalArgumentException("Invalid index");
+        }
+        return codes[index];
+    }
+
+    /**
+     * returns the long code at the given index in ascending code order. This
+     * works for every word length.
+     *
+     * @param index is the index of the code.
+     * @return the long code at the index.
+     * @throws IllegalArgumentException if the index is out of bounds.
+     */
+    public long getLongCode(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IllegalArgumentException("Invalid index");
+        }
+        return codes != null ? codes[index] : longCodes[index];
+    }
+}
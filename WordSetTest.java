@@ -0,0 +1,91 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import Project4.src.WordCode;
+import Project4.src.WordSet;
+
+/**
+ * Tests WordSet class
+ *
+ * @author Roshni Desai
+ */
+public class WordSetTest {
+
+    /**
+     * Test contains for words in and out of the set
+     */
+    @Test
+    public void testContains() {
+        WordSet set = new WordSet(new String[] { "EAGLE", "ELEGY", "", "eagle", "EAGLE" });
+        assertEquals(2, set.size(), "Test size skips invalid and duplicate words");
+        assertTrue(set.contains("EAGLE"), "Test contains EAGLE");
+        assertTrue(set.contains(WordCode.encode("ELEGY")), "Test contains ELEGY code");
+        assertFalse(set.contains("HAPPY"), "Test does not contain HAPPY");
+        assertFalse(set.contains(""), "Test does not contain empty word");
+        assertFalse(set.contains((String) null), "Test does not contain null");
+        assertFalse(set.contains(-1), "Test does not contain negative code");
+        assertFalse(set.contains(WordCode.CODE_SPACE), "Test does not contain code too big");
+    }
+
+    /**
+     * Test getCode returns codes in ascending order
+     */
+    @Test
+    public void testGetCode() {
+        WordSet set = new WordSet(new String[] { "ELEGY", "BAAAA", "AAAAA" });
+        assertEquals(WordCode.encode("AAAAA"), set.getCode(0), "Test first code");
+        assertEquals(WordCode.encode("BAAAA"), set.getCode(1), "Test second code");
+        assertEquals(WordCode.encode("ELEGY"), set.getCode(2), "Test third code");
+        assertEquals(2, set.indexOf(WordCode.encode("ELEGY")), "Test indexOf ELEGY");
+        assertEquals(0, set.indexOf(WordCode.encode("AAAAA")), "Test indexOf AAAAA");
+        assertEquals(-1, set.indexOf(WordCode.encode("HAPPY")), "Test indexOf word not in set");
+        assertEquals(-1, set.indexOf(-1), "Test indexOf invalid code");
+        Exception e = assertThrows(IllegalArgumentException.class, () -> set.getCode(3));
+        assertEquals("Invalid index", e.getMessage(), "getCode Invalid index message");
+        e = assertThrows(IllegalArgumentException.class, () -> new WordSet(null));
+        assertEquals("Null word list", e.getMessage(), "WordSet Null word list message");
+    }
+
+    /**
+     * Test a set of six letter words, which is hashed rather than a bitset
+     */
+    @Test
+    public void testSixLetters() {
+        WordSet set = new WordSet(new String[] { "WOLFIE", "BANANA", "ELEGY", "BANANA" }, 6);
+        assertEquals(6, set.getWordLength(), "Test word length");
+        assertEquals(2, set.size(), "Test size skips wrong length and duplicate words");
+        assertTrue(set.contains("WOLFIE"), "Test contains WOLFIE");
+        assertFalse(set.contains("ELEGY"), "Test does not contain five letter word");
+        assertFalse(set.contains("ZZZZZZ"), "Test does not contain ZZZZZZ");
+        assertEquals(WordCode.encode("BANANA", 6), set.getCode(0), "Test first code");
+        assertEquals(1, set.indexOf(WordCode.encode("WOLFIE", 6)), "Test indexOf WOLFIE");
+        assertEquals(-1, set.indexOf(WordCode.encode("ZZZZZZ", 6)), "Test indexOf word not in set");
+    }
+
+    /**
+     * Test a set of eight letter words, which only have long codes
+     */
+    @Test
+    public void testEightLetters() {
+        WordSet set = new WordSet(new String[] { "ELEPHANT", "ASSESSES", "ELEGY", "ELEPHANT",
+            "ZZZZZZZZ" }, 8);
+        assertEquals(8, set.getWordLength(), "Test word length");
+        assertEquals(3, set.size(), "Test size skips wrong length and duplicate words");
+        assertTrue(set.contains("ASSESSES"), "Test contains ASSESSES");
+        assertTrue(set.contains(WordCode.encodeLong("ZZZZZZZZ", 8)), "Test contains ZZZZZZZZ code");
+        assertFalse(set.contains("ABSOLUTE"), "Test does not contain ABSOLUTE");
+        assertFalse(set.contains(-1L), "Test does not contain negative code");
+        assertEquals(WordCode.encodeLong("ASSESSES", 8), set.getLongCode(0), "Test first code");
+        assertEquals(2, set.indexOf(WordCode.encodeLong("ZZZZZZZZ", 8)), "Test indexOf ZZZZZZZZ");
+        Exception e = assertThrows(IllegalArgumentException.class, () -> set.getCode(0));
+        assertEquals("Invalid word length", e.getMessage(), "getCode Invalid word length message");
+        e = assertThrows(IllegalArgumentException.class, () -> set.getLongCode(3));
+        assertEquals("Invalid index", e.getMessage(), "getLongCode Invalid index message");
+
+        WordSet five = new WordSet(new String[] { "ELEGY" });
+        assertEquals(five.getCode(0), five.getLongCode(0), "Test long code of a five letter word");
+        assertEquals(0, five.indexOf(WordCode.encodeLong("ELEGY", 5)), "Test indexOf long code");
+        assertEquals(-1, five.indexOf(1L << 40), "Test indexOf long code too big");
+    }
+}
@@ -0,0 +1,56 @@
+package Project4.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import Project4.src.Alphabet;
+import Project4.src.Letter;
+
+/**
+ * Benchmarks updating letter statuses in an Alphabet.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlphabetBenchmark {
+
+    /** Alphabet being updated */
+    private Alphabet alphabet;
+
+    /** Index of the next letter to update */
+    private int index;
+
+    /**
+     * Creates the alphabet
+     */
+    @Setup
+    public void setUp() {
+        alphabet = new Alphabet();
+        index = 0;
+    }
+
+    /**
+     * Updates the status of one letter, cycling through the alphabet
+     *
+     * @return the letter's status after the update
+     */
+    @Benchmark
+    public Letter.Status updateStatus() {
+        index = (index + 1) % Alphabet.MAX_LETTERS;
+        alphabet.updateStatus(index, Letter.Status.IN_WORD);
+        return alphabet.getStatus(index);
+    }
+}
@@ -0,0 +1,109 @@
+package Project4.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import Project4.src.BatchEvaluator;
+import Project4.src.Lexicon;
+import Project4.src.Wolfle;
+import Project4.src.WordSet;
+
+/**
+ * Benchmarks a cross product of 64 guesses against every answer, one op per
+ * cross product. wolfleLoop is the per-pair loop a Wolfle game runs without a
+ * feedback matrix; scalarBatch and vectorBatch are the two BatchEvaluator
+ * kernels. The fork enables the incubating Vector API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+@State(Scope.Thread)
+public class BatchEvaluatorBenchmark {
+
+    /** Number of guesses in each cross product */
+    private static final int GUESSES = 64;
+
+    /** Codes of the guesses */
+    private int[] guessCodes;
+
+    /** Codes of every answer */
+    private int[] secretCodes;
+
+    /** Patterns written by each op */
+    private byte[] out;
+
+    /** Game whose lexicon has no feedback matrix, so every pattern is computed */
+    private Wolfle game;
+
+    /**
+     * Picks the guesses and answers
+     */
+    @Setup
+    public void setUp() {
+        Lexicon lexicon = Lexicon.load(Lexicon.VALID_WORDS_FILE, Lexicon.WOLFLE_WORDS_FILE);
+        WordSet valid = lexicon.getValidWords();
+        WordSet answers = lexicon.getWolfleWords();
+        guessCodes = new int[GUESSES];
+        for (int i = 0; i < GUESSES; i++) {
+            guessCodes[i] = valid.getCode(i * (valid.size() / GUESSES));
+        }
+        secretCodes = new int[answers.size()];
+        for (int i = 0; i < secretCodes.length; i++) {
+            secretCodes[i] = answers.getCode(i);
+        }
+        out = new byte[GUESSES * secretCodes.length];
+        game = new Wolfle(lexicon, "ELEGY");
+        if (!BatchEvaluator.get().isVectorized()) {
+            throw new IllegalStateException("Vector API not available");
+        }
+    }
+
+    /**
+     * Evaluates the cross product one pair at a time through Wolfle
+     *
+     * @param blackhole consumes the patterns
+     */
+    @Benchmark
+    public void wolfleLoop(Blackhole blackhole) {
+        for (int g = 0; g < GUESSES; g++) {
+            for (int s = 0; s < secretCodes.length; s++) {
+                blackhole.consume(game.evaluatePattern(guessCodes[g], secretCodes[s]));
+            }
+        }
+    }
+
+    /**
+     * Evaluates the cross product with the scalar kernel
+     *
+     * @return the patterns
+     */
+    @Benchmark
+    public byte[] scalarBatch() {
+        BatchEvaluator.scalar().evaluateBatch(guessCodes, secretCodes, out);
+        return out;
+    }
+
+    /**
+     * Evaluates the cross product with the Vector API kernel
+     *
+     * @return the patterns
+     */
+    @Benchmark
+    public byte[] vectorBatch() {
+        BatchEvaluator.get().evaluateBatch(guessCodes, secretCodes, out);
+        return out;
+    }
+}
@@ -0,0 +1,32 @@
+package Project4.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Wolfle benchmarks with the GC profiler, so every result reports
+ * allocation rate and bytes per operation next to its latency.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Runs the benchmarks
+     *
+     * @param args args[0] optional regular expression selecting benchmarks
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = "Project4\\.bench\\..*";
+        if (args.length == 1) {
+            include = args[0];
+        }
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,104 @@
+package Project4.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import Project4.src.GameJournal;
+import Project4.src.GameSessionManager;
+import Project4.src.Lexicon;
+
+/**
+ * Benchmarks the cost journaling adds to a guess: compare guess with
+ * journaled=false against journaled=true. The journal file is written to
+ * the temporary directory and deleted afterwards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameJournalBenchmark {
+
+    /** Guesses played in order; none of them is the secret word */
+    private static final String[] GUESSES = { "EAGLE", "RANGE", "GRUNT", "ALBUM", "STORY", "FLINT" };
+
+    /** Whether guesses are recorded to a journal */
+    @Param({ "false", "true" })
+    private boolean journaled;
+
+    /** Journal file */
+    private File file;
+
+    /** Journal, or null */
+    private GameJournal journal;
+
+    /** Manager under test */
+    private GameSessionManager manager;
+
+    /** Id of the current session */
+    private long id;
+
+    /** Number of guesses made in the current session */
+    private int guesses;
+
+    /**
+     * Opens the journal and starts the first game
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (journaled) {
+            file = File.createTempFile("journal", ".bin");
+            file.delete();
+            journal = GameJournal.open(file.getPath(), 1024, 10);
+        }
+        manager = new GameSessionManager(Lexicon.getDefault(), journal);
+        id = manager.create("ELEGY");
+        guesses = 0;
+    }
+
+    /**
+     * Closes and deletes the journal
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (journal != null) {
+            journal.close();
+            file.delete();
+        }
+    }
+
+    /**
+     * Makes one guess, starting a new game when the last one ran out of rows
+     *
+     * @return true if the guess was valid
+     */
+    @Benchmark
+    public boolean guess() {
+        if (guesses == GUESSES.length) {
+            manager.remove(id);
+            id = manager.create("ELEGY");
+            guesses = 0;
+        }
+        boolean valid = manager.guess(id, GUESSES[guesses]);
+        guesses++;
+        return valid;
+    }
+}
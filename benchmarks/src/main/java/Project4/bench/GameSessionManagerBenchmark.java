@@ -0,0 +1,182 @@
+package Project4.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import Project4.src.GameJournal;
+import Project4.src.GameSessionManager;
+import Project4.src.Lexicon;
+
+/**
+ * Load benchmark for GameSessionManager: every thread plays its own games
+ * through one shared manager, with and without a journal. The guess methods
+ * differ only in their thread count, so comparing their ops/ms shows how
+ * throughput scales with threads and what the journal costs at each count.
+ * Scaling can only show up to the number of cores of the machine.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameSessionManagerBenchmark {
+
+    /** Guesses played in order; none of them is the secret word */
+    private static final String[] GUESSES = { "EAGLE", "RANGE", "GRUNT", "ALBUM", "STORY", "FLINT" };
+
+    /**
+     * Manager shared by every thread
+     */
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        /** Whether guesses are recorded to a journal */
+        @Param({ "false", "true" })
+        private boolean journaled;
+
+        /** Journal file */
+        private File file;
+
+        /** Journal, or null */
+        private GameJournal journal;
+
+        /** Manager under load */
+        private GameSessionManager manager;
+
+        /**
+         * Opens the journal and creates the manager
+         *
+         * @throws IOException if the temporary file cannot be created
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            if (journaled) {
+                file = File.createTempFile("journal", ".bin");
+                file.delete();
+                journal = GameJournal.open(file.getPath(), 1024, 10);
+            }
+            manager = new GameSessionManager(Lexicon.getDefault(), journal);
+        }
+
+        /**
+         * Closes and deletes the journal
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            if (journal != null) {
+                journal.close();
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Session owned by one thread
+     */
+    @State(Scope.Thread)
+    public static class Player {
+
+        /** Id of the current session */
+        private long id;
+
+        /** Number of guesses made in the current session */
+        private int guesses;
+
+        /**
+         * Starts the first game
+         *
+         * @param shared the shared manager
+         */
+        @Setup
+        public void setUp(Shared shared) {
+            id = shared.manager.create("ELEGY");
+            guesses = 0;
+        }
+    }
+
+    /**
+     * Makes one guess from one thread
+     *
+     * @param shared the shared manager
+     * @param player this thread's session
+     * @return true if the guess was valid
+     */
+    @Benchmark
+    @Threads(1)
+    public boolean guess1Thread(Shared shared, Player player) {
+        return guess(shared, player);
+    }
+
+    /**
+     * Makes one guess from each of two threads
+     *
+     * @param shared the shared manager
+     * @param player this thread's session
+     * @return true if the guess was valid
+     */
+    @Benchmark
+    @Threads(2)
+    public boolean guess2Threads(Shared shared, Player player) {
+        return guess(shared, player);
+    }
+
+    /**
+     * Makes one guess from each of four threads
+     *
+     * @param shared the shared manager
+     * @param player this thread's session
+     * @return true if the guess was valid
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean guess4Threads(Shared shared, Player player) {
+        return guess(shared, player);
+    }
+
+    /**
+     * Makes one guess from each of as many threads as there are cores
+     *
+     * @param shared the shared manager
+     * @param player this thread's session
+     * @return true if the guess was valid
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean guessAllThreads(Shared shared, Player player) {
+        return guess(shared, player);
+    }
+
+    /**
+     * Makes one guess, starting a new game when the last one ran out of rows
+     *
+     * @param shared the shared manager
+     * @param player this thread's session
+     * @return true if the guess was valid
+     */
+    private static boolean guess(Shared shared, Player player) {
+        if (player.guesses == GUESSES.length) {
+            shared.manager.remove(player.id);
+            player.id = shared.manager.create("ELEGY");
+            player.guesses = 0;
+        }
+        boolean valid = shared.manager.guess(player.id, GUESSES[player.guesses]);
+        player.guesses++;
+        return valid;
+    }
+}
@@ -0,0 +1,69 @@
+package Project4.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import Project4.src.Grid;
+import Project4.src.Letter;
+import Project4.src.Wolfle;
+
+/**
+ * Benchmarks updating and printing a Grid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GridBenchmark {
+
+    /** Grid being updated */
+    private Grid grid;
+
+    /** Index of the next cell to update */
+    private int cell;
+
+    /**
+     * Creates a full-size grid
+     */
+    @Setup
+    public void setUp() {
+        grid = new Grid(Wolfle.ROWS, Wolfle.COLS);
+        cell = 0;
+    }
+
+    /**
+     * Updates one cell, cycling through the grid
+     *
+     * @return the cell's letter after the update
+     */
+    @Benchmark
+    public char updateLetter() {
+        cell = (cell + 1) % (Wolfle.ROWS * Wolfle.COLS);
+        int row = cell / Wolfle.COLS;
+        int col = cell % Wolfle.COLS;
+        grid.updateLetter(row, col, (char) ('A' + cell % 26), Letter.Status.IN_WORD);
+        return grid.getLetter(row, col);
+    }
+
+    /**
+     * Converts the grid to a string
+     *
+     * @return the string
+     */
+    @Benchmark
+    public String gridToString() {
+        return grid.toString();
+    }
+}
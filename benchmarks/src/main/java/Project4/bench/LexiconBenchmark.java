@@ -0,0 +1,89 @@
+package Project4.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import Project4.src.Lexicon;
+import Project4.src.WordListLoader;
+
+/**
+ * Benchmarks reading the word files into a Lexicon, and reading a generated
+ * list of 100,000 words.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LexiconBenchmark {
+
+    /** Number of words in the generated list */
+    private static final int LARGE_WORDS = 100_000;
+
+    /** Generated word list */
+    private File largeList;
+
+    /**
+     * Writes the generated word list
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder contents = new StringBuilder();
+        for (int i = 0; i < LARGE_WORDS; i++) {
+            int n = i;
+            for (int col = 0; col < 5; col++) {
+                contents.append((char) ('A' + n % 26));
+                n /= 26;
+            }
+            contents.append('\n');
+        }
+        largeList = File.createTempFile("words", ".txt");
+        Files.write(largeList.toPath(), contents.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Deletes the generated word list
+     */
+    @TearDown
+    public void tearDown() {
+        largeList.delete();
+    }
+
+    /**
+     * Loads both word files, bypassing the shared cache
+     *
+     * @return the loaded lexicon
+     */
+    @Benchmark
+    public Lexicon loadWords() {
+        return Lexicon.load(Lexicon.VALID_WORDS_FILE, Lexicon.WOLFLE_WORDS_FILE);
+    }
+
+    /**
+     * Reads and validates the generated list of 100,000 words
+     *
+     * @return the word codes
+     */
+    @Benchmark
+    public int[] loadLargeList() {
+        return WordListLoader.load(largeList.getPath());
+    }
+}
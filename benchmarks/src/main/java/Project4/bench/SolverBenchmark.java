@@ -0,0 +1,74 @@
+package Project4.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import Project4.src.Lexicon;
+import Project4.src.Solver;
+import Project4.src.Wolfle;
+
+/**
+ * Benchmarks the latency of the Solver choosing a first and a second move.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverBenchmark {
+
+    /** Shared lexicon */
+    private Lexicon lexicon;
+
+    /** Solver whose opening is already cached */
+    private Solver solver;
+
+    /** Game with no guesses yet */
+    private Wolfle newGame;
+
+    /** Game after the opening guess */
+    private Wolfle midGame;
+
+    /**
+     * Creates the solver and the games
+     */
+    @Setup
+    public void setUp() {
+        lexicon = Lexicon.getDefault();
+        solver = new Solver(lexicon);
+        newGame = new Wolfle(lexicon, "ELEGY");
+        midGame = new Wolfle(lexicon, "ELEGY");
+        midGame.processGuess(solver.bestGuess(newGame), 0);
+    }
+
+    /**
+     * Chooses the first move with nothing cached
+     *
+     * @return the opening guess
+     */
+    @Benchmark
+    public String firstMove() {
+        return new Solver(lexicon).bestGuess(newGame);
+    }
+
+    /**
+     * Chooses the second move
+     *
+     * @return the second guess
+     */
+    @Benchmark
+    public String midGame() {
+        return solver.bestGuess(midGame);
+    }
+}
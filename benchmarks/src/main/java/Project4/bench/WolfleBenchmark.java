@@ -0,0 +1,127 @@
+package Project4.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import Project4.src.Letter;
+import Project4.src.Lexicon;
+import Project4.src.Tile;
+import Project4.src.Wolfle;
+import Project4.src.WordCode;
+
+/**
+ * Benchmarks game construction, guess evaluation and guess processing in
+ * Wolfle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WolfleBenchmark {
+
+    /** Shared lexicon for every game */
+    private Lexicon lexicon;
+
+    /** Game that guesses are evaluated against */
+    private Wolfle wolfle;
+
+    /** Code of the secret word */
+    private int secretCode;
+
+    /** Code of a valid guess */
+    private int guessCode;
+
+    /**
+     * Loads the lexicon and creates the game
+     */
+    @Setup
+    public void setUp() {
+        lexicon = Lexicon.getDefault();
+        wolfle = new Wolfle(lexicon, "ELEGY");
+        secretCode = WordCode.encode("ELEGY");
+        guessCode = WordCode.encode("EAGLE");
+    }
+
+    /**
+     * Creates a game from the shared lexicon
+     *
+     * @return the new game
+     */
+    @Benchmark
+    public Wolfle construct() {
+        return new Wolfle(lexicon, "ELEGY");
+    }
+
+    /**
+     * Evaluates a valid guess
+     *
+     * @return the evaluated letters
+     */
+    @Benchmark
+    public Letter[] evaluateValidGuess() {
+        return wolfle.evaluateGuess("EAGLE");
+    }
+
+    /**
+     * Evaluates a valid guess into shared tiles
+     *
+     * @return the evaluated tiles
+     */
+    @Benchmark
+    public Tile[] evaluateValidGuessTiles() {
+        return wolfle.evaluateTiles("EAGLE");
+    }
+
+    /**
+     * Evaluates a guess that is not in the dictionary
+     *
+     * @return null, since the guess is invalid
+     */
+    @Benchmark
+    public Letter[] evaluateInvalidGuess() {
+        return wolfle.evaluateGuess("NOTIT");
+    }
+
+    /**
+     * Evaluates a guess as a packed pattern
+     *
+     * @return the pattern
+     */
+    @Benchmark
+    public int evaluatePattern() {
+        return wolfle.evaluatePattern(guessCode, secretCode);
+    }
+
+    /**
+     * Processes a valid guess that does not end the game
+     *
+     * @return true, since the guess is valid
+     */
+    @Benchmark
+    public boolean processGuess() {
+        return wolfle.processGuess("EAGLE", 0);
+    }
+
+    /**
+     * Creates a game and processes its first guess, which narrows every
+     * answer down to the ones consistent with the feedback
+     *
+     * @return whether the guess was accepted
+     */
+    @Benchmark
+    public boolean processFirstGuess() {
+        return new Wolfle(lexicon, "ELEGY").processGuess("EAGLE", 0);
+    }
+}
@@ -0,0 +1,147 @@
+package Project4.src;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorBatchEvaluator extends BatchEvaluator {
+
+    /**
+     * the widest byte vector the hardware supports: 32 secrets per step with
+     * AVX2, 64 with AVX-512.
+     */
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    /**
+     * constructs a VectorBatchEvaluator. BatchEvaluator creates it
+     * reflectively and falls back to the scalar kernel if the incubator module
+     * is absent.
+     */
+    VectorBatchEvaluator() {
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+
+    /**
+     * evaluates every guess against the secrets, one vector of secrets at a
+     * time. The secrets are first split into one array of letters per column
+     * (structure of arrays). For a fixed guess, a column not in position is
+     * IN_WORD exactly when the secret has more copies of its letter outside
+     * the in-position columns than earlier guess columns not in position have
+     * already claimed, which matches Feedback.evaluate with no counting state.
+     * The body is written out column by column, with the vectors in locals
+     * and no branches choosing between them, so the JIT keeps every vector in
+     * a register instead of allocating it. The tail after the last full vector is finished by the scalar
+     * kernel. The kernel is written for Wolfle.COLS letters; evaluateBatch
+     * rejects the codes of longer words before calling it.
+     *
+     * @param guessCodes  is the WordCodes of the guesses.
+     * @param secretCodes is the WordCodes of the secret words.
+     * @param out         is the array the patterns are written to.
+     */
+    @Override
+    void evaluate(int[] guessCodes, int[] secretCodes, byte[] out) {
+        int count = secretCodes.length;
+        byte[][] columns = new byte[Wolfle.COLS][count];
+        for (int i = 0; i < count; i++) {
+            for (int col = 0; col < Wolfle.COLS; col++) {
+                columns[col][i] = (byte) WordCode.letterAt(secretCodes[i], col);
+            }
+        }
+        int bound = SPECIES.loopBound(count);
+        Feedback feedback = new Feedback();
+
+        for (int g = 0; g < guessCodes.length; g++) {
+            int guessCode = guessCodes[g];
+            int offset = g * count;
+            byte c0 = (byte) WordCode.letterAt(guessCode, 0);
+            byte c1 = (byte) WordCode.letterAt(guessCode, 1);
+            byte c2 = (byte) WordCode.letterAt(guessCode, 2);
+            byte c3 = (byte) WordCode.letterAt(guessCode, 3);
+            byte c4 = (byte) WordCode.letterAt(guessCode, 4);
+            byte w01 = claims(guessCode, 0, 1);
+            byte w02 = claims(guessCode, 0, 2);
+            byte w12 = claims(guessCode, 1, 2);
+            byte w03 = claims(guessCode, 0, 3);
+            byte w13 = claims(guessCode, 1, 3);
+            byte w23 = claims(guessCode, 2, 3);
+            byte w04 = claims(guessCode, 0, 4);
+            byte w14 = claims(guessCode, 1, 4);
+            byte w24 = claims(guessCode, 2, 4);
+            byte w34 = claims(guessCode, 3, 4);
+            for (int s = 0; s < bound; s += SPECIES.length()) {
+                ByteVector l0 = ByteVector.fromArray(SPECIES, columns[0], s);
+                ByteVector l1 = ByteVector.fromArray(SPECIES, columns[1], s);
+                ByteVector l2 = ByteVector.fromArray(SPECIES, columns[2], s);
+                ByteVector l3 = ByteVector.fromArray(SPECIES, columns[3], s);
+                ByteVector l4 = ByteVector.fromArray(SPECIES, columns[4], s);
+                VectorMask<Byte> g0 = l0.eq(c0);
+                VectorMask<Byte> g1 = l1.eq(c1);
+                VectorMask<Byte> g2 = l2.eq(c2);
+                VectorMask<Byte> g3 = l3.eq(c3);
+                VectorMask<Byte> g4 = l4.eq(c4);
+                VectorMask<Byte> f0 = g0.not();
+                VectorMask<Byte> f1 = g1.not();
+                VectorMask<Byte> f2 = g2.not();
+                VectorMask<Byte> f3 = g3.not();
+                VectorMask<Byte> f4 = g4.not();
+                ByteVector zero = ByteVector.zero(SPECIES);
+                ByteVector pattern = zero;
+                // aN counts the copies of column N's letter in the columns not
+                // in position, less those claimed by earlier columns not in
+                // position; column N is IN_WORD if any copy is left
+                ByteVector a0 = zero.add((byte) 1, l0.eq(c0).and(f0))
+                        .add((byte) 1, l1.eq(c0).and(f1)).add((byte) 1, l2.eq(c0).and(f2))
+                        .add((byte) 1, l3.eq(c0).and(f3)).add((byte) 1, l4.eq(c0).and(f4));
+                pattern = pattern.add((byte) 2, g0)
+                        .add((byte) 1, a0.compare(VectorOperators.GT, 0).and(f0));
+                ByteVector a1 = zero.add((byte) 1, l0.eq(c1).and(f0))
+                        .add((byte) 1, l1.eq(c1).and(f1)).add((byte) 1, l2.eq(c1).and(f2))
+                        .add((byte) 1, l3.eq(c1).and(f3)).add((byte) 1, l4.eq(c1).and(f4));
+                a1 = a1.sub(zero.add(w01, f0));
+                pattern = pattern.add((byte) 6, g1)
+                        .add((byte) 3, a1.compare(VectorOperators.GT, 0).and(f1));
+                ByteVector a2 = zero.add((byte) 1, l0.eq(c2).and(f0))
+                        .add((byte) 1, l1.eq(c2).and(f1)).add((byte) 1, l2.eq(c2).and(f2))
+                        .add((byte) 1, l3.eq(c2).and(f3)).add((byte) 1, l4.eq(c2).and(f4));
+                a2 = a2.sub(zero.add(w02, f0).add(w12, f1));
+                pattern = pattern.add((byte) 18, g2)
+                        .add((byte) 9, a2.compare(VectorOperators.GT, 0).and(f2));
+                ByteVector a3 = zero.add((byte) 1, l0.eq(c3).and(f0))
+                        .add((byte) 1, l1.eq(c3).and(f1)).add((byte) 1, l2.eq(c3).and(f2))
+                        .add((byte) 1, l3.eq(c3).and(f3)).add((byte) 1, l4.eq(c3).and(f4));
+                a3 = a3.sub(zero.add(w03, f0).add(w13, f1).add(w23, f2));
+                pattern = pattern.add((byte) 54, g3)
+                        .add((byte) 27, a3.compare(VectorOperators.GT, 0).and(f3));
+                ByteVector a4 = zero.add((byte) 1, l0.eq(c4).and(f0))
+                        .add((byte) 1, l1.eq(c4).and(f1)).add((byte) 1, l2.eq(c4).and(f2))
+                        .add((byte) 1, l3.eq(c4).and(f3)).add((byte) 1, l4.eq(c4).and(f4));
+                a4 = a4.sub(zero.add(w04, f0).add(w14, f1).add(w24, f2).add(w34, f3));
+                pattern = pattern.add((byte) -94, g4)
+                        .add((byte) 81, a4.compare(VectorOperators.GT, 0).and(f4));
+                pattern.intoArray(out, offset + s);
+            }
+            for (int s = bound; s < count; s++) {
+                out[offset + s] = (byte) feedback.evaluate(guessCode, secretCodes[s]);
+            }
+        }
+    }
+
+    /**
+     * returns 1 if an earlier column of the guess holds the same letter as a
+     * column, so it claims a copy of that letter first, and 0 otherwise.
+     *
+     * @param guessCode is the WordCode of the guess.
+     * @param earlier   is the earlier column.
+     * @param col       is the column.
+     * @return the weight of the earlier column.
+     */
+    private static byte claims(int guessCode, int earlier, int col) {
+        boolean same = WordCode.letterAt(guessCode, earlier) == WordCode.letterAt(guessCode, col);
+        return (byte) (earlier < col && same ? 1 : 0);
+    }
+}